@@ -154,6 +154,55 @@ public class GeneralConfig extends DummyConfig {
      */
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "How deep the recursion stack on an operator can become. This is to avoid game crashes when building things like the omega operator.", isCommandable = true)
     public static int operatorRecursionLimit = 256;
+
+    /**
+     * The maximum list length for which the results of the map operator are cached. Longer lists will have their elements re-evaluated on every access.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum list length for which the results of the map operator are cached. Longer lists will have their elements re-evaluated on every access.", isCommandable = true, minimalValue = 0)
+    public static int mappedListCacheLimit = 65536;
+
+    /**
+     * If pure operators may be applied on multiple threads when filtering, counting, deduplicating or reducing large lists.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If pure operators may be applied on multiple threads when filtering, counting, deduplicating or reducing large lists.", isCommandable = true)
+    public static boolean operatorParallelism = true;
+
+    /**
+     * The minimum list length for which pure operators are applied on multiple threads.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The minimum list length for which pure operators are applied on multiple threads.", minimalValue = 1, isCommandable = true)
+    public static int operatorParallelismThreshold = 4096;
+
+    /**
+     * The number of threads that can be used to apply pure operators on large lists.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The number of threads that can be used to apply pure operators on large lists.", minimalValue = 1, requiresMcRestart = true)
+    public static int operatorParallelismThreads = 4;
+
+    /**
+     * The maximum duration in milliseconds of a single evaluation, after which it will fail. 0 disables this limit.
+     * This is disabled by default, as it depends on server load, so that evaluations could fail nondeterministically.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum duration in milliseconds of a single evaluation, after which it will fail. 0 disables this limit. This depends on server load, so evaluations close to the limit may fail intermittently; prefer the element limit.", minimalValue = 0, isCommandable = true)
+    public static int evaluationTimeLimit = 0;
+
+    /**
+     * The maximum number of list elements that can be iterated in a single evaluation, after which it will fail. 0 disables this limit.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of list elements that can be iterated in a single evaluation, after which it will fail. 0 disables this limit.", minimalValue = 0, isCommandable = true)
+    public static int evaluationElementLimit = 1000000;
+
+    /**
+     * The minimum number of ticks between two display value updates of a panel that are sent to clients.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The minimum number of ticks between two display value updates of a panel that are sent to clients. Intermediate values are skipped, but the latest value is always sent.", minimalValue = 1, isCommandable = true)
+    public static int panelSyncInterval = 1;
+
+    /**
+     * The maximum number of sounds, particle effects and spoken texts of writers that are sent to a single player per tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of sounds, particle effects and spoken texts of writers that are sent to a single player per tick. The closest ones are sent first.", minimalValue = 1, isCommandable = true)
+    public static int writerEffectsPerPlayerLimit = 256;
     
     /**
      * Create a new instance.
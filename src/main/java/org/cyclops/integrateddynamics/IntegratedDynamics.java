@@ -54,6 +54,7 @@ import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRend
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
 import org.cyclops.integrateddynamics.command.CommandCrash;
 import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
+import org.cyclops.integrateddynamics.command.CommandProfiler;
 import org.cyclops.integrateddynamics.command.CommandTest;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.TickHandler;
@@ -176,6 +177,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
         }
         commands.put(CommandNetworkDiagnostics.NAME, new CommandNetworkDiagnostics(this));
         commands.put(CommandCrash.NAME, new CommandCrash(this));
+        commands.put(CommandProfiler.NAME, new CommandProfiler(this));
         return new CommandMod(this, commands);
     }
 
@@ -13,6 +13,9 @@ import java.util.Map;
 public interface IVariableContainer {
 
     /**
+     * Networks index a copy of these contents, so containers that modify this map
+     * must call {@link org.cyclops.integrateddynamics.api.network.IPartNetwork#onVariableContainerUpdated(IVariableContainer)}
+     * afterwards, as is done by {@link #refreshVariables(INetwork, IInventory, boolean)}.
      * @return The stored variable facades for this part.
      */
     public Map<Integer, IVariableFacade> getVariableCache();
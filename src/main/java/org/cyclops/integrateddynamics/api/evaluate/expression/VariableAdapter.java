@@ -6,6 +6,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A basic variable implementation.
@@ -13,18 +14,42 @@ import java.util.List;
  */
 public abstract class VariableAdapter<V extends IValue> implements IVariable<V> {
 
-    private List<IVariableInvalidateListener> invalidateListeners = Lists.newLinkedList();
+    private static final AtomicLong GLOBAL_GENERATION = new AtomicLong();
+
+    private List<IVariableInvalidateListener> invalidateListeners = null;
+    private long generation = 0;
+
+    /**
+     * @return A counter that is incremented each time any variable is invalidated.
+     *         If this did not change, the generations of all variables are unchanged as well.
+     */
+    public static long getGlobalGeneration() {
+        return GLOBAL_GENERATION.get();
+    }
 
     @Override
     public void invalidate() {
-        for (IVariableInvalidateListener invalidateListener : Lists.newArrayList(invalidateListeners)) {
-            invalidateListener.invalidate();
+        generation++;
+        GLOBAL_GENERATION.incrementAndGet();
+        if (invalidateListeners != null) {
+            List<IVariableInvalidateListener> listeners = invalidateListeners;
+            invalidateListeners = null;
+            for (IVariableInvalidateListener invalidateListener : listeners) {
+                invalidateListener.invalidate();
+            }
         }
-        invalidateListeners.clear();
     }
 
     @Override
     public void addInvalidationListener(IVariableInvalidateListener invalidateListener) {
+        if (invalidateListeners == null) {
+            invalidateListeners = Lists.newArrayList();
+        }
         invalidateListeners.add(invalidateListener);
     }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
 }
@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.api.evaluate.variable;
 
 import com.google.gson.JsonObject;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.advancement.criterion.ValuePredicate;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -95,6 +97,29 @@ public interface IValueType<V extends IValue> {
      */
     public V deserialize(String value);
 
+    /**
+     * Serialize the given value to an NBT tag.
+     * By default, this wraps the result of {@link #serialize(IValue)} in a string tag.
+     * Value types that have a more compact NBT representation should override this
+     * together with {@link #deserializeNbt(NBTBase)}.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    default public NBTBase serializeNbt(V value) {
+        return new NBTTagString(serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT tag.
+     * String tags are always handled by {@link #deserialize(String)},
+     * so that values in the string format can still be read after a type overrides {@link #serializeNbt(IValue)}.
+     * @param tag The tag to deserialize.
+     * @return The deserialized value.
+     */
+    default public V deserializeNbt(NBTBase tag) {
+        return deserialize(((NBTTagString) tag).getString());
+    }
+
     /**
      * Materialize the given value so that it can exist without any external references.
      * @param value The value to materialize.
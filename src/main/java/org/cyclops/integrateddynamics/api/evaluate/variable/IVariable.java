@@ -34,4 +34,18 @@ public interface IVariable<V extends IValue> extends IVariableInvalidateListener
      */
     public void addInvalidationListener(IVariableInvalidateListener invalidateListener);
 
+    /**
+     * Get the generation of this variable, which is incremented each time this variable is invalidated.
+     *
+     * Dependents can remember the generations of their inputs, and compare them when they are read again
+     * to determine if they need to be re-evaluated.
+     * This avoids having to re-attach invalidation listeners after each evaluation.
+     *
+     * @return The current generation, or -1 if this variable does not keep track of its generation,
+     *         in which case dependents should use {@link #addInvalidationListener(IVariableInvalidateListener)}.
+     */
+    default public long getGeneration() {
+        return -1;
+    }
+
 }
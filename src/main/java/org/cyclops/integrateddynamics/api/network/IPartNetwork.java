@@ -1,7 +1,10 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.block.IVariableContainer;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -10,6 +13,9 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * A network capability that can hold parts.
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
@@ -86,6 +92,50 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public IVariableFacade getVariableFacade(int variableId);
 
+    /**
+     * Start recording the variable ids that are looked up in this network,
+     * until the matching call to {@link #endVariableDependencies()}.
+     * Recordings can be nested, in which case the outer recording also contains the ids of the inner one.
+     */
+    public void beginVariableDependencies();
+
+    /**
+     * Stop the current recording.
+     * @return The variable ids that were looked up since the matching {@link #beginVariableDependencies()}.
+     */
+    public Set<Integer> endVariableDependencies();
+
+    /**
+     * Set the variable ids the given part transitively depends on.
+     * @param partId The part id.
+     * @param variableIds The variable ids.
+     */
+    public void setVariableDependencies(int partId, Set<Integer> variableIds);
+
+    /**
+     * @param partId The part id.
+     * @return If the variable dependencies of the given part are known.
+     */
+    public boolean hasVariableDependencies(int partId);
+
+    /**
+     * @param variableIds Variable ids.
+     * @return The ids of the parts that depend on any of the given variable ids.
+     */
+    public Set<Integer> getVariableDependents(Collection<Integer> variableIds);
+
+    /**
+     * Get the expression for the given operator and input variables.
+     * Structurally identical expressions within this network will be the same instance,
+     * so that they are only evaluated once.
+     * Constant input variables are compared by value, all other input variables by instance.
+     * @param operator The operator.
+     * @param inputs The input variables.
+     * @param <V> The value type.
+     * @return The shared expression.
+     */
+    public <V extends IValue> IExpression<V> getSharedExpression(IOperator operator, IVariable[] inputs);
+
     /**
      * Add the position of a variable container.
      * @param dimPos The variable container position.
@@ -99,6 +149,13 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public void removeVariableContainer(DimPos dimPos);
 
+    /**
+     * Update the variable index of this network after the contents of the given variable container have changed.
+     * Containers that are not part of this network are ignored.
+     * @param variableContainer The variable container.
+     */
+    public void onVariableContainerUpdated(IVariableContainer variableContainer);
+
     /**
      * Add the given proxy to the network.
      * @param proxyId The id of the proxy.
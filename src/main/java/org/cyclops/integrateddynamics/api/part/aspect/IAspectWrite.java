@@ -28,6 +28,18 @@ public interface IAspectWrite<V extends IValue, T extends IValueType<V>> extends
                                                                                        S state, IVariable<V> variable)
             throws EvaluationException;
 
+    /**
+     * By default, {@link #write(IPartTypeWriter, PartTarget, IPartStateWriter, IVariable)} is skipped
+     * if the variable value equals the last written value.
+     * This also applies to writers of other mods that do not override this method,
+     * so aspects that cause an effect on every write, such as sounds or pulses, instead of only setting some state,
+     * must override this to return true.
+     * @return If this aspect must be written on every update, even if the variable value did not change.
+     */
+    public default boolean isWriteEveryUpdate() {
+        return false;
+    }
+
     /**
      * When this aspect has become active.
      * @param partType The part type.
@@ -10,6 +10,7 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -93,4 +94,17 @@ public interface IPartStateWriter<P extends IPartTypeWriter> extends IPartState<
      */
     public boolean checkAndResetFirstTick();
 
+    /**
+     * This must be reset when this state is activated or deactivated,
+     * and when its variables or aspect properties change.
+     * @return The value that was last written by the active aspect, or null if it must be written again.
+     */
+    @Nullable
+    public IValue getLastWrittenValue();
+
+    /**
+     * @param value The value that was last written by the active aspect, or null if it must be written again.
+     */
+    public void setLastWrittenValue(@Nullable IValue value);
+
 }
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.capability.variablecontainer;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
@@ -13,6 +14,7 @@ import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdated
 import org.cyclops.integrateddynamics.item.ItemVariable;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Default implementation of {@link IVariableContainer}.
@@ -41,6 +43,7 @@ public class VariableContainerDefault implements IVariableContainer {
         }
 
         // Reset variable facades in inventory
+        Set<Integer> variableIds = Sets.newHashSet(getVariableCache().keySet());
         getVariableCache().clear();
         IVariableFacade firstInvalidVariableFacade = null;
         for (int i = 0; i < inventory.getSizeInventory(); i++) {
@@ -63,10 +66,16 @@ public class VariableContainerDefault implements IVariableContainer {
             getVariableCache().put(firstInvalidVariableFacade.getId(), firstInvalidVariableFacade);
         }
 
-        // Trigger event in network
+        // Update the variable index of the network
+        if (partNetwork != null) {
+            partNetwork.onVariableContainerUpdated(this);
+        }
+
+        // Trigger event in network, for the parts that depend on the removed or added variables
         if (sendVariablesUpdateEvent) {
             if (network != null) {
-                network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+                variableIds.addAll(getVariableCache().keySet());
+                network.getEventBus().post(new VariableContentsUpdatedEvent(network, variableIds));
             }
         }
     }
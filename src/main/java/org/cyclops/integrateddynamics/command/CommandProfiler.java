@@ -0,0 +1,99 @@
+package org.cyclops.integrateddynamics.command;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.cyclops.cyclopscore.command.CommandMod;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
+import org.cyclops.integrateddynamics.core.network.diagnostics.RawEvaluationData;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Command for controlling the operator and variable evaluation profiler.
+ * Usage: profiler (start|stop|reset|top|export [file])
+ * Exported files are always written to the {@link #EXPORT_DIRECTORY} in the server directory.
+ * @author rubensworks
+ *
+ */
+public class CommandProfiler extends CommandMod {
+
+    public static final String NAME = "profiler";
+    public static final List<String> ACTIONS = ImmutableList.of("start", "stop", "reset", "top", "export");
+    public static final String EXPORT_DIRECTORY = "integrateddynamics-profiles";
+    public static final String DEFAULT_EXPORT_FILE = "integrateddynamics-profile.csv";
+    public static final Pattern EXPORT_FILE_PATTERN = Pattern.compile("[a-zA-Z0-9_\\-]+(\\.[a-zA-Z0-9_\\-]+)*");
+    public static final int TOP_COUNT = 10;
+
+    public CommandProfiler(ModBase mod) {
+        super(mod, NAME);
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] parts, BlockPos blockPos) {
+        if (parts.length == 1) {
+            return CommandBase.getListOfStringsMatchingLastWord(parts, ACTIONS);
+        }
+        return null;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] parts) {
+        String action = parts.length > 0 ? parts[0] : "";
+        switch (action) {
+            case "start":
+                EvaluationProfiler.setEnabled(true);
+                sender.sendMessage(new TextComponentString("Started profiling evaluations."));
+                break;
+            case "stop":
+                EvaluationProfiler.setEnabled(false);
+                sender.sendMessage(new TextComponentString("Stopped profiling evaluations."));
+                break;
+            case "reset":
+                EvaluationProfiler.reset();
+                sender.sendMessage(new TextComponentString("Cleared all profiling data."));
+                break;
+            case "top":
+                List<RawEvaluationData> data = EvaluationProfiler.getData();
+                for (RawEvaluationData entry : data.subList(0, Math.min(TOP_COUNT, data.size()))) {
+                    sender.sendMessage(new TextComponentString(String.format("%s %s: %s invocations, %.3fms, %sKB",
+                            entry.getType(), entry.getName(), entry.getInvocations(),
+                            ((double) entry.getDurationNs()) / 1000000, entry.getAllocatedBytes() / 1024)));
+                }
+                VariableFacadeHandlerRegistry registry = VariableFacadeHandlerRegistry.getInstance();
+                sender.sendMessage(new TextComponentString(String.format("Variable facade cache: %s hits, %s misses, %s entries",
+                        registry.getCacheHits(), registry.getCacheMisses(), registry.getCacheSize())));
+                break;
+            case "export":
+                String fileName = parts.length > 1 ? parts[1] : DEFAULT_EXPORT_FILE;
+                // Only allow plain file names, so that no files outside of the export directory can be written.
+                if (!EXPORT_FILE_PATTERN.matcher(fileName).matches()) {
+                    sender.sendMessage(new TextComponentString("Invalid export file name: " + fileName));
+                    break;
+                }
+                File directory = server.getFile(EXPORT_DIRECTORY);
+                File file = new File(directory, fileName);
+                try {
+                    if (!directory.isDirectory() && !directory.mkdirs()) {
+                        throw new IOException("Could not create the directory " + directory.getAbsolutePath());
+                    }
+                    EvaluationProfiler.exportCsv(file);
+                    sender.sendMessage(new TextComponentString("Exported profiling data to " + file.getAbsolutePath()));
+                } catch (IOException e) {
+                    sender.sendMessage(new TextComponentString("Could not export profiling data: " + e.getMessage()));
+                }
+                break;
+            default:
+                sender.sendMessage(new TextComponentString("Usage: " + NAME + " (" + String.join("|", ACTIONS) + ")"));
+        }
+    }
+
+}
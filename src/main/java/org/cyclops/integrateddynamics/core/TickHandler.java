@@ -8,8 +8,12 @@ import org.cyclops.integrateddynamics.api.network.IFullNetworkListener;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.part.aspect.TargetSnapshots;
+import org.cyclops.integrateddynamics.core.part.aspect.WriterEffects;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
+import org.cyclops.integrateddynamics.core.tileentity.RedstoneNotifications;
 
 /**
  * Handles server ticks to delegate to networks.
@@ -47,27 +51,38 @@ public final class TickHandler {
                 tick = (tick + 1) % MinecraftHelpers.SECOND_IN_TICKS;
             }
             boolean shouldSendTickDurationInfo = isBeingDiagnozed && tick == 0;
-            for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
-                if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
-                    NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
-                    network.resetLastSecondDurations();
+            if (shouldSendTickDurationInfo && EvaluationProfiler.isEnabled()) {
+                NetworkDiagnostics.getInstance().sendEvaluationUpdate();
+            }
+            RedstoneNotifications.begin();
+            WriterEffects.begin();
+            try {
+                for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
+                    if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
+                        NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
+                        network.resetLastSecondDurations();
 
-                    // Also reset durations of indexes
-                    for (IFullNetworkListener fullNetworkListener : network.getFullNetworkListeners()) {
-                        if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients) {
-                            IPositionedAddonsNetworkIngredients<?, ?> networkIngredients = (IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener;
-                            networkIngredients.resetLastSecondDurationsIndex();
+                        // Also reset durations of indexes
+                        for (IFullNetworkListener fullNetworkListener : network.getFullNetworkListeners()) {
+                            if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients) {
+                                IPositionedAddonsNetworkIngredients<?, ?> networkIngredients = (IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener;
+                                networkIngredients.resetLastSecondDurationsIndex();
+                            }
                         }
                     }
-                }
-                try {
-                    if (!network.isCrashed()) {
-                        network.update();
+                    try {
+                        if (!network.isCrashed()) {
+                            network.update();
+                        }
+                    } catch (Throwable e) {
+                        network.setCrashed(true);
+                        throw e;
                     }
-                } catch (Throwable e) {
-                    network.setCrashed(true);
-                    throw e;
                 }
+            } finally {
+                RedstoneNotifications.flush();
+                WriterEffects.flush();
+                TargetSnapshots.clear();
             }
         }
     }
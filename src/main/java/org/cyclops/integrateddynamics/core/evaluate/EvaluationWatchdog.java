@@ -0,0 +1,288 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the duration and the number of visited list elements of a single evaluation,
+ * so that runaway expressions fail instead of stalling the server tick.
+ *
+ * An evaluation starts at the outermost operator invocation on a thread and ends when that invocation returns.
+ * Limits are checked cooperatively on each operator invocation and on each list element that is iterated.
+ * Once a limit is exceeded, all further checks within the same evaluation will fail as well.
+ *
+ * Watchdogs are bound to a thread, so evaluations that are split over other threads
+ * must run their parts with {@link #evaluateInFork(Fork, IForkedEvaluation)},
+ * so that these share the deadline and the element budget of the evaluation they are part of.
+ *
+ * Watchdogs also track the recursion depth of each operator on the evaluation stack of their thread,
+ * so that operators that are invoked concurrently on multiple threads do not count towards each other's depth.
+ * @author rubensworks
+ */
+public class EvaluationWatchdog {
+
+    /**
+     * The number of checks after which the deadline is checked again, as reading the clock is relatively expensive.
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private static final ThreadLocal<EvaluationWatchdog> WATCHDOGS = ThreadLocal.withInitial(EvaluationWatchdog::new);
+
+    private int depth = 0;
+    private long deadlineNs;
+    private long elements;
+    private int checksUntilDeadline;
+    private L10NHelpers.UnlocalizedString error;
+    private Fork fork;
+    private long forkElements;
+    private Map<Object, MutableInt> operatorDepths = Maps.newIdentityHashMap();
+
+    /**
+     * @return The watchdog of the current thread.
+     */
+    public static EvaluationWatchdog get() {
+        return WATCHDOGS.get();
+    }
+
+    /**
+     * Start an evaluation, or a nested evaluation if one is already running.
+     * Each call must be followed by a call to {@link #exit()}.
+     */
+    public void enter() {
+        if (depth++ == 0) {
+            deadlineNs = GeneralConfig.evaluationTimeLimit > 0
+                    ? System.nanoTime() + GeneralConfig.evaluationTimeLimit * 1000000L : Long.MAX_VALUE;
+            elements = 0;
+            checksUntilDeadline = DEADLINE_CHECK_INTERVAL;
+            error = null;
+        }
+    }
+
+    /**
+     * End an evaluation.
+     */
+    public void exit() {
+        depth--;
+    }
+
+    /**
+     * Start an invocation of the given operator on the evaluation stack of this thread.
+     * Each call must be followed by a call to {@link #exitOperator(Object)}.
+     * @param operator An operator.
+     * @return The number of invocations of the given operator that were already running on the evaluation stack.
+     */
+    public int enterOperator(Object operator) {
+        MutableInt depth = operatorDepths.get(operator);
+        if (depth == null) {
+            operatorDepths.put(operator, new MutableInt(1));
+            return 0;
+        }
+        depth.increment();
+        return depth.intValue() - 1;
+    }
+
+    /**
+     * End an invocation of the given operator.
+     * @param operator An operator.
+     */
+    public void exitOperator(Object operator) {
+        MutableInt depth = operatorDepths.get(operator);
+        if (depth != null) {
+            depth.decrement();
+            if (depth.intValue() <= 0) {
+                operatorDepths.remove(operator);
+            }
+        }
+    }
+
+    /**
+     * Check the limits for an operator invocation.
+     * @throws EvaluationException If a limit was exceeded.
+     */
+    public void checkInvocation() throws EvaluationException {
+        if (depth > 0 && isExceeded(0)) {
+            throw new EvaluationException(error.localize());
+        }
+    }
+
+    /**
+     * Check the limits for a list element that is being iterated.
+     * As iterators can not throw checked exceptions, this throws an unchecked exception
+     * that is converted to an {@link EvaluationException} by the enclosing operator.
+     * @throws LimitExceededException If a limit was exceeded.
+     */
+    public void checkElement() throws LimitExceededException {
+        if (depth > 0 && isExceeded(1)) {
+            throw new LimitExceededException(error.localize());
+        }
+    }
+
+    protected boolean isExceeded(int addedElements) {
+        if (error != null) {
+            return true;
+        }
+        if (fork != null && fork.error != null) {
+            error = fork.error;
+            return true;
+        }
+        elements += addedElements;
+        if (GeneralConfig.evaluationElementLimit > 0 && forkElements + elements > GeneralConfig.evaluationElementLimit) {
+            setError(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_ELEMENTLIMIT, GeneralConfig.evaluationElementLimit));
+            return true;
+        }
+        if (--checksUntilDeadline <= 0) {
+            checksUntilDeadline = DEADLINE_CHECK_INTERVAL;
+            if (fork != null) {
+                // Share the elements with the other parts of the evaluation from time to time.
+                forkElements = fork.elements.addAndGet(elements);
+                elements = 0;
+            }
+            if (System.nanoTime() > deadlineNs) {
+                setError(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_TIMELIMIT, GeneralConfig.evaluationTimeLimit));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void setError(L10NHelpers.UnlocalizedString error) {
+        this.error = error;
+        if (fork != null) {
+            fork.error = error;
+        }
+    }
+
+    /**
+     * Prepare to split the current evaluation over other threads.
+     * Once all parts have been evaluated, {@link #join(Fork)} must be called on this thread.
+     * @return The fork to pass to {@link #evaluateInFork(Fork, IForkedEvaluation)},
+     *         or null if no evaluation is running on this thread.
+     */
+    @Nullable
+    public Fork fork() {
+        if (depth == 0) {
+            return null;
+        }
+        return new Fork(deadlineNs, forkElements + elements, error, operatorDepths);
+    }
+
+    /**
+     * Take over the elements and errors of all evaluated parts of the given fork.
+     * @param fork A fork that was created by {@link #fork()} on this thread, may be null.
+     */
+    public void join(@Nullable Fork fork) {
+        if (fork != null) {
+            elements += fork.elements.get() - fork.initialElements;
+            if (error == null && fork.error != null) {
+                setError(fork.error);
+            }
+        }
+    }
+
+    /**
+     * Evaluate a part of the evaluation of the given fork on the current thread.
+     * @param fork A fork created by {@link #fork()}, or null if the part should be evaluated on its own.
+     * @param evaluation The evaluation.
+     * @param <T> The result type.
+     * @return The evaluation result.
+     * @throws EvaluationException If evaluation failed.
+     */
+    public <T> T evaluateInFork(@Nullable Fork fork, IForkedEvaluation<T> evaluation) throws EvaluationException {
+        if (fork == null) {
+            return evaluation.evaluate();
+        }
+        // The current thread may already be evaluating something else, for example when it executes a stolen task.
+        int previousDepth = this.depth;
+        long previousDeadlineNs = this.deadlineNs;
+        long previousElements = this.elements;
+        int previousChecksUntilDeadline = this.checksUntilDeadline;
+        L10NHelpers.UnlocalizedString previousError = this.error;
+        Fork previousFork = this.fork;
+        long previousForkElements = this.forkElements;
+        Map<Object, MutableInt> previousOperatorDepths = this.operatorDepths;
+
+        this.depth = 1;
+        this.deadlineNs = fork.deadlineNs;
+        this.elements = 0;
+        this.checksUntilDeadline = DEADLINE_CHECK_INTERVAL;
+        this.error = fork.error;
+        this.fork = fork;
+        this.forkElements = fork.elements.get();
+        // Parts continue the evaluation stack of the thread that created the fork.
+        this.operatorDepths = Maps.newIdentityHashMap();
+        for (Map.Entry<Object, Integer> entry : fork.operatorDepths.entrySet()) {
+            this.operatorDepths.put(entry.getKey(), new MutableInt(entry.getValue()));
+        }
+        try {
+            return evaluation.evaluate();
+        } finally {
+            fork.elements.addAndGet(this.elements);
+
+            this.depth = previousDepth;
+            this.deadlineNs = previousDeadlineNs;
+            this.elements = previousElements;
+            this.checksUntilDeadline = previousChecksUntilDeadline;
+            this.error = previousError;
+            this.fork = previousFork;
+            this.forkElements = previousForkElements;
+            this.operatorDepths = previousOperatorDepths;
+        }
+    }
+
+    /**
+     * The deadline, element budget, error and operator recursion depths of an evaluation that is split over multiple threads.
+     */
+    public static class Fork {
+
+        private final long deadlineNs;
+        private final long initialElements;
+        private final AtomicLong elements;
+        private volatile L10NHelpers.UnlocalizedString error;
+        private final Map<Object, Integer> operatorDepths;
+
+        protected Fork(long deadlineNs, long elements, L10NHelpers.UnlocalizedString error,
+                       Map<Object, MutableInt> operatorDepths) {
+            this.deadlineNs = deadlineNs;
+            this.initialElements = elements;
+            this.elements = new AtomicLong(elements);
+            this.error = error;
+            Map<Object, Integer> depths = Maps.newIdentityHashMap();
+            for (Map.Entry<Object, MutableInt> entry : operatorDepths.entrySet()) {
+                depths.put(entry.getKey(), entry.getValue().toInteger());
+            }
+            this.operatorDepths = Collections.unmodifiableMap(depths);
+        }
+
+    }
+
+    /**
+     * A part of an evaluation.
+     * @param <T> The result type.
+     */
+    public static interface IForkedEvaluation<T> {
+
+        public T evaluate() throws EvaluationException;
+
+    }
+
+    /**
+     * Thrown when an evaluation limit was exceeded during list iteration.
+     */
+    public static class LimitExceededException extends RuntimeException {
+
+        public LimitExceededException(String message) {
+            super(message);
+        }
+
+    }
+
+}
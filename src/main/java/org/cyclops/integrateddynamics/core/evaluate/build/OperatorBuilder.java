@@ -39,11 +39,13 @@ public class OperatorBuilder<O> {
     private final IConditionalOutputTypeDeriver conditionalOutputTypeDeriver;
     private final ITypeValidator typeValidator;
     private final List<IOperatorValuePropagator> valuePropagators;
+    private final boolean threadSafe;
 
     protected OperatorBuilder(String symbol, String operatorName, IValueType[] inputTypes, IValueType outputType,
                               OperatorBase.IFunction function, IConfigRenderPattern renderPattern, String modId,
                               List<String> kinds, IConditionalOutputTypeDeriver conditionalOutputTypeDeriver,
-                              ITypeValidator typeValidator, List<IOperatorValuePropagator> valuePropagators) {
+                              ITypeValidator typeValidator, List<IOperatorValuePropagator> valuePropagators,
+                              boolean threadSafe) {
         this.symbol = symbol;
         this.operatorName = operatorName;
         this.inputTypes = inputTypes;
@@ -55,6 +57,7 @@ public class OperatorBuilder<O> {
         this.conditionalOutputTypeDeriver = conditionalOutputTypeDeriver;
         this.typeValidator = typeValidator;
         this.valuePropagators = valuePropagators;
+        this.threadSafe = threadSafe;
     }
 
     /**
@@ -64,7 +67,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> output(IValueType outputType) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -74,7 +77,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> symbol(String symbol) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -84,7 +87,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> operatorName(String operatorName) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -95,7 +98,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> symbolOperator(String symbolOperator) {
         return new OperatorBuilder<>(symbolOperator, symbolOperator, inputTypes, outputType, function, renderPattern,
-                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -105,7 +108,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> inputTypes(IValueType... inputTypes) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -116,7 +119,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> inputTypes(int length, IValueType defaultType) {
         return new OperatorBuilder<>(symbol, operatorName, OperatorBase.constructInputVariables(length, defaultType),
-                outputType, function, renderPattern, modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                outputType, function, renderPattern, modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -138,7 +141,7 @@ public class OperatorBuilder<O> {
             throw new IllegalStateException("Can not add a function when value propagators are present.");
         }
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -148,7 +151,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> renderPattern(IConfigRenderPattern renderPattern) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -158,7 +161,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> modId(String modId) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -168,7 +171,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> appendKind(String kind) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId,
-                Helpers.joinList(kinds, kind), conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                Helpers.joinList(kinds, kind), conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -179,7 +182,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> conditionalOutputTypeDeriver(IConditionalOutputTypeDeriver conditionalOutputTypeDeriver) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId,
-                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
     }
 
     /**
@@ -189,7 +192,18 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> typeValidator(ITypeValidator typeValidator) {
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId,
-                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, threadSafe);
+    }
+
+    /**
+     * Mark the operator as pure and thread-safe.
+     * This allows list operators to evaluate it on multiple threads for large lists.
+     * Only use this for operators that never access the world or other mutable state.
+     * @return The builder instance.
+     */
+    public OperatorBuilder<O> threadSafe() {
+        return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, true);
     }
 
     /**
@@ -203,7 +217,7 @@ public class OperatorBuilder<O> {
             throw new IllegalStateException("Can not add a function when value propagators are present.");
         }
         return new OperatorBuilder<>(symbol, operatorName, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, Helpers.joinList(valuePropagators, valuePropagator));
+                conditionalOutputTypeDeriver, typeValidator, Helpers.joinList(valuePropagators, valuePropagator), threadSafe);
     }
 
     /**
@@ -221,7 +235,7 @@ public class OperatorBuilder<O> {
      */
     public static OperatorBuilder<OperatorBase.SafeVariablesGetter> forType(IValueType<?> outputType) {
         return new OperatorBuilder<>(null, null, null, outputType, null, null, Reference.MOD_ID,
-                Collections.<String>emptyList(), null, null, null);
+                Collections.<String>emptyList(), null, null, null, false);
     }
 
     private static class Built extends OperatorBase {
@@ -230,6 +244,7 @@ public class OperatorBuilder<O> {
         private final String unlocalizedType;
         private final IConditionalOutputTypeDeriver conditionalOutputTypeDeriver;
         private final ITypeValidator typeValidator;
+        private final boolean threadSafe;
 
         protected Built(OperatorBuilder operatorBuilder) {
             super(Objects.requireNonNull(operatorBuilder.symbol),
@@ -242,6 +257,7 @@ public class OperatorBuilder<O> {
             this.unlocalizedType = deriveUnlocalizedType(operatorBuilder);
             this.conditionalOutputTypeDeriver = operatorBuilder.conditionalOutputTypeDeriver;
             this.typeValidator = operatorBuilder.typeValidator;
+            this.threadSafe = operatorBuilder.threadSafe;
         }
 
         protected static IFunction deriveFunction(OperatorBuilder operatorBuilder) {
@@ -288,6 +304,11 @@ public class OperatorBuilder<O> {
                     ? typeValidator.validateTypes(this, input)
                     : super.validateTypes(input);
         }
+
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
     }
 
     public static interface IConditionalOutputTypeDeriver {
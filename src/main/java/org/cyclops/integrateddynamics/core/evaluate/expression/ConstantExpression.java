@@ -0,0 +1,28 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+
+/**
+ * An expression of which all inputs were constant, and which has therefore been evaluated in advance.
+ * @author rubensworks
+ */
+public class ConstantExpression<V extends IValue> extends Variable<V> implements IExpression<V> {
+
+    public ConstantExpression(IValueType<V> type, V value) {
+        super(type, value);
+    }
+
+    @Override
+    public IValue evaluate() throws EvaluationException {
+        return getValue();
+    }
+
+    @Override
+    public boolean hasErrored() {
+        return false;
+    }
+}
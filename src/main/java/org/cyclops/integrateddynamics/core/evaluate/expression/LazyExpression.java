@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.expression;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
@@ -8,6 +9,7 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
 
 /**
  * A generic expression with arbitrarily nested binary operations.
@@ -20,32 +22,95 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
     private final IOperator op;
     private final IVariable[] input;
     private final ILazyExpressionValueCache valueCache;
+    private final long[] inputGenerations;
+    private boolean inputGenerationsValid = false;
+    private long validatedGlobalGeneration = -1;
     private boolean errored = false;
+    private volatile int[] profiledVariableIds = new int[0];
 
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
         this.op = op;
         this.input = input;
         this.valueCache = valueCache;
+        this.inputGenerations = new long[input.length];
 
         // Make sure that any previous values become un-cached,
         // so that the first evaluation of this expression is guaranteed to happen.
         valueCache.removeValue(id);
     }
 
+    /**
+     * Invalidate this expression if the generation of any of its inputs changed since its last evaluation.
+     * Inputs are only checked if any variable has been invalidated since the last check.
+     */
+    protected void validate() {
+        long globalGeneration = VariableAdapter.getGlobalGeneration();
+        if (inputGenerationsValid && validatedGlobalGeneration != globalGeneration) {
+            for (int i = 0; i < input.length; i++) {
+                long generation = input[i].getGeneration();
+                if (generation >= 0 && generation != inputGenerations[i]) {
+                    invalidate();
+                    break;
+                }
+            }
+            validatedGlobalGeneration = globalGeneration;
+        }
+    }
+
+    /**
+     * Attribute the evaluations of this expression to the given variable in the profiler.
+     * This is needed because expressions can be shared between variables, and have an id of their own.
+     * @param variableId The id of a variable that resolves to this expression.
+     */
+    public synchronized void addProfiledVariableId(int variableId) {
+        if (!ArrayUtils.contains(profiledVariableIds, variableId)) {
+            profiledVariableIds = ArrayUtils.add(profiledVariableIds, variableId);
+        }
+    }
+
     @Override
     public IValue evaluate() throws EvaluationException {
+        if (EvaluationProfiler.isEnabled()) {
+            long startNs = System.nanoTime();
+            long startBytes = EvaluationProfiler.getAllocatedBytes();
+            try {
+                return evaluateExpression();
+            } finally {
+                for (int variableId : profiledVariableIds) {
+                    EvaluationProfiler.recordVariable(variableId, startNs, startBytes);
+                }
+            }
+        }
+        return evaluateExpression();
+    }
+
+    protected IValue evaluateExpression() throws EvaluationException {
+        validate();
         if(valueCache.hasValue(id)) {
             return valueCache.getValue(id);
         }
+        long globalGeneration = VariableAdapter.getGlobalGeneration();
         IValue value = op.evaluate(input);
-        for (IVariable inputVariable : input) {
-            inputVariable.addInvalidationListener(this);
+        for (int i = 0; i < input.length; i++) {
+            inputGenerations[i] = input[i].getGeneration();
+            if (inputGenerations[i] < 0) {
+                // Fallback for variables that don't keep track of their generation.
+                input[i].addInvalidationListener(this);
+            }
         }
+        inputGenerationsValid = true;
+        validatedGlobalGeneration = globalGeneration;
         valueCache.setValue(id, value);
         return value;
     }
 
+    @Override
+    public long getGeneration() {
+        validate();
+        return super.getGeneration();
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
@@ -77,6 +142,7 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
     @Override
     public void invalidate() {
         valueCache.removeValue(id);
+        inputGenerationsValid = false;
         super.invalidate();
     }
 
@@ -0,0 +1,36 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+/**
+ * A value cache for a single expression, so that the cached value is released together with the expression.
+ * @author rubensworks
+ */
+public class SingleValueCache implements ILazyExpressionValueCache {
+
+    private boolean present = false;
+    private IValue value = null;
+
+    @Override
+    public void setValue(int id, IValue value) {
+        this.value = value;
+        this.present = true;
+    }
+
+    @Override
+    public boolean hasValue(int id) {
+        return present;
+    }
+
+    @Override
+    public IValue getValue(int id) {
+        return value;
+    }
+
+    @Override
+    public void removeValue(int id) {
+        this.value = null;
+        this.present = false;
+    }
+}
@@ -54,6 +54,16 @@ public class CombinedOperator extends OperatorBase {
         return this;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        for (IOperator operator : ((OperatorsFunction) getFunction()).getOperators()) {
+            if (!ParallelOperatorHelpers.isThreadSafe(operator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static abstract class OperatorsFunction implements IFunction {
 
         private final IOperator[] operators;
@@ -183,15 +193,105 @@ public class CombinedOperator extends OperatorBase {
 
     public static class Pipe extends OperatorsFunction {
 
+        private final IOperator[] stages;
+
         public Pipe(IOperator... operators) {
             super(operators);
+            this.stages = operators.length == 2 ? flattenStages(operators[0], operators[1]) : null;
         }
 
         @Override
         public IValue evaluate(SafeVariablesGetter variables) throws EvaluationException {
+            if (stages != null) {
+                return pipeVariablesToStages(variables.getVariables(), stages);
+            }
             return pipeVariablesToOperators(variables.getVariables(), getOperators());
         }
 
+        /**
+         * @param operator An operator.
+         * @return The stages of the given operator if it is a pipe of two operators, otherwise null.
+         */
+        @Nullable
+        protected static IOperator[] getStages(IOperator operator) {
+            if (operator instanceof CombinedOperator && ((CombinedOperator) operator).getFunction() instanceof Pipe) {
+                return ((Pipe) ((CombinedOperator) operator).getFunction()).stages;
+            }
+            return null;
+        }
+
+        /**
+         * Flatten nested pipes into a sequence of stages,
+         * where the output of each stage is passed to the next one,
+         * and all remaining input variables are passed to the last stage.
+         * @param first The operator to pipe from.
+         * @param second The operator to pipe to.
+         * @return The stages.
+         */
+        protected static IOperator[] flattenStages(IOperator first, IOperator second) {
+            return ArrayUtils.addAll(getInputStages(first), getTargetStages(second));
+        }
+
+        /**
+         * @param operator An operator that is applied to a single input.
+         * @return The stages of the given operator.
+         */
+        protected static IOperator[] getInputStages(IOperator operator) {
+            IOperator[] stages = getStages(operator);
+            // A pipe can only be inlined if it is complete after one input,
+            // otherwise it would be curried as a whole.
+            if (stages == null || operator.getRequiredInputLength() != 1) {
+                return new IOperator[]{operator};
+            }
+            return stages;
+        }
+
+        /**
+         * @param operator An operator that is applied to all remaining input variables.
+         * @return The stages of the given operator.
+         */
+        protected static IOperator[] getTargetStages(IOperator operator) {
+            IOperator[] stages = getStages(operator);
+            if (stages == null) {
+                return new IOperator[]{operator};
+            }
+            return stages;
+        }
+
+        /**
+         * Evaluate the given stages, as created by {@link #flattenStages(IOperator, IOperator)},
+         * or a single operator.
+         * @param allVariables The input variables.
+         * @param stages The stages.
+         * @return The final result.
+         * @throws EvaluationException If evaluation failed.
+         */
+        protected static IValue evaluateStages(IVariable[] allVariables, IOperator[] stages) throws EvaluationException {
+            if (stages.length == 1) {
+                return ValueHelpers.evaluateOperator(stages[0], allVariables);
+            }
+            return pipeVariablesToStages(allVariables, stages);
+        }
+
+        /**
+         * Pass the first variable through all n-1 first stages.
+         * Pass the result together with the remaining variables to the last stage, and return the result.
+         * @param allVariables The input variables.
+         * @param stages The stages.
+         * @return The final result.
+         * @throws EvaluationException If evaluation failed.
+         */
+        protected static IValue pipeVariablesToStages(IVariable[] allVariables, IOperator[] stages) throws EvaluationException {
+            int lastStage = stages.length - 1;
+            IValue value = ValueHelpers.evaluateOperator(stages[0], allVariables[0]);
+            for (int i = 1; i < lastStage; i++) {
+                value = ValueHelpers.evaluateOperator(stages[i], value);
+            }
+            IVariable[] newVariables = allVariables.clone();
+            newVariables[0] = new Variable<>(value);
+            return ValueHelpers.evaluateOperator(stages[lastStage], newVariables);
+        }
+
         /**
          * Pass the first variable to all n-1 first operators.
          * Prepend the results of these operators to the variables array.
@@ -204,12 +304,11 @@ public class CombinedOperator extends OperatorBase {
         public static IValue pipeVariablesToOperators(IVariable[] allVariables, IOperator[] operators) throws EvaluationException {
             int firstInputRange = operators.length - 1;
             IVariable input = allVariables[0];
-            IVariable[] intermediates = new IVariable[firstInputRange];
+            IVariable[] newVariables = new IVariable[firstInputRange + allVariables.length - 1];
             for (int i = 0; i < firstInputRange; ++i) {
-                intermediates[i] = new Variable<>(ValueHelpers.evaluateOperator(operators[i], input));
+                newVariables[i] = new Variable<>(ValueHelpers.evaluateOperator(operators[i], input));
             }
-            IVariable[] remaining = ArrayUtils.subarray(allVariables, 1, allVariables.length);
-            IVariable[] newVariables = ArrayUtils.addAll(intermediates, remaining);
+            System.arraycopy(allVariables, 1, newVariables, firstInputRange, allVariables.length - 1);
             return ValueHelpers.evaluateOperator(operators[operators.length - 1], newVariables);
         }
 
@@ -283,12 +382,29 @@ public class CombinedOperator extends OperatorBase {
 
     public static class Pipe2 extends OperatorsFunction {
 
+        private final IOperator[][] stages;
+
         public Pipe2(IOperator... operators) {
             super(operators);
+            // Nested two-operator pipes are inlined as stages, like in Pipe.
+            this.stages = operators.length == 3 ? new IOperator[][]{
+                    Pipe.getInputStages(operators[0]),
+                    Pipe.getInputStages(operators[1]),
+                    Pipe.getTargetStages(operators[2])
+            } : null;
         }
 
         @Override
         public IValue evaluate(SafeVariablesGetter variables) throws EvaluationException {
+            if (stages != null) {
+                IVariable[] allVariables = variables.getVariables();
+                IVariable[] input = new IVariable[]{allVariables[0]};
+                IVariable[] newVariables = new IVariable[allVariables.length + 1];
+                newVariables[0] = new Variable<>(Pipe.evaluateStages(input, stages[0]));
+                newVariables[1] = new Variable<>(Pipe.evaluateStages(input, stages[1]));
+                System.arraycopy(allVariables, 1, newVariables, 2, allVariables.length - 1);
+                return Pipe.evaluateStages(newVariables, stages[2]);
+            }
             return Pipe.pipeVariablesToOperators(variables.getVariables(), getOperators());
         }
 
@@ -318,16 +434,36 @@ public class CombinedOperator extends OperatorBase {
 
         @Override
         public IValue evaluate(SafeVariablesGetter variables) throws EvaluationException {
-            int size = variables.getVariables().length;
-            IValue[] values = new IValue[size];
-            for (int i = 0; i < size; i++) {
-                int targetI = i < 2 ? 1 - i : i;
-                values[i] = variables.getValue(targetI);
+            // Swap the variables themselves, so that they don't have to be evaluated and wrapped again.
+            IVariable[] flipped = variables.getVariables().clone();
+            IVariable first = flipped[0];
+            flipped[0] = flipped[1];
+            flipped[1] = first;
+            return ValueHelpers.evaluateOperator(getOperators()[0], flipped);
+        }
+
+        /**
+         * @param operator An operator.
+         * @return The original operator if the given operator is a flipped operator, otherwise null.
+         */
+        @Nullable
+        protected static IOperator getFlippedOperator(IOperator operator) {
+            if (operator instanceof CombinedOperator && ((CombinedOperator) operator).getFunction() instanceof Flip) {
+                return ((Flip) ((CombinedOperator) operator).getFunction()).getOperators()[0];
+            }
+            return null;
+        }
+
+        public static IOperator asOperator(IOperator operator) throws EvaluationException {
+            // Flipping twice results in the original operator
+            IOperator flippedOperator = getFlippedOperator(operator);
+            if (flippedOperator != null) {
+                return flippedOperator;
             }
-            return ValueHelpers.evaluateOperator(getOperators()[0], values);
+            return asCombinedOperator(operator);
         }
 
-        public static CombinedOperator asOperator(IOperator operator) throws EvaluationException {
+        public static CombinedOperator asCombinedOperator(IOperator operator) throws EvaluationException {
             CombinedOperator.Flip flip = new CombinedOperator.Flip(operator);
             IValueType[] originalInputTypes = operator.getInputTypes();
             IValueType[] flippedInputTypes = new IValueType[originalInputTypes.length];
@@ -359,7 +495,7 @@ public class CombinedOperator extends OperatorBase {
 
             @Override
             public CombinedOperator newFunction(IOperator... operators) throws EvaluationException {
-                return Flip.asOperator(operators[0]);
+                return Flip.asCombinedOperator(operators[0]);
             }
 
         }
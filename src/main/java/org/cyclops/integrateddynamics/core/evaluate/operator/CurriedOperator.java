@@ -4,6 +4,7 @@ import net.minecraft.nbt.JsonToNBT;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import org.apache.commons.lang3.ArrayUtils;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -18,6 +19,7 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -32,8 +34,15 @@ public class CurriedOperator implements IOperator {
     private final IVariable[] appliedVariables;
 
     public CurriedOperator(IOperator baseOperator, IVariable... appliedVariables) {
-        this.baseOperator = baseOperator;
-        this.appliedVariables = appliedVariables;
+        // Flatten nested curried operators, so that evaluation only has to derive the input once.
+        if (baseOperator instanceof CurriedOperator) {
+            CurriedOperator curriedBaseOperator = (CurriedOperator) baseOperator;
+            this.baseOperator = curriedBaseOperator.baseOperator;
+            this.appliedVariables = ArrayUtils.addAll(curriedBaseOperator.appliedVariables, appliedVariables);
+        } else {
+            this.baseOperator = baseOperator;
+            this.appliedVariables = appliedVariables;
+        }
     }
 
     protected String getAppliedSymbol() {
@@ -149,6 +158,44 @@ public class CurriedOperator implements IOperator {
         return baseOperator;
     }
 
+    /**
+     * @return If the base operator is thread-safe and all applied variables are thread-safe constants.
+     */
+    public boolean isThreadSafe() {
+        if (!ParallelOperatorHelpers.isThreadSafe(baseOperator)) {
+            return false;
+        }
+        for (IVariable appliedVariable : appliedVariables) {
+            if (!(appliedVariable instanceof Variable)
+                    || !ParallelOperatorHelpers.isThreadSafeValueType(appliedVariable.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return A thread-safe copy of this operator with all applied variables evaluated, or null if none exists.
+     * @throws EvaluationException If an applied variable could not be evaluated.
+     */
+    @Nullable
+    public CurriedOperator toThreadSafe() throws EvaluationException {
+        IOperator threadSafeBaseOperator = ParallelOperatorHelpers.toThreadSafeOperator(baseOperator);
+        if (threadSafeBaseOperator == null) {
+            return null;
+        }
+        IVariable[] variables = new IVariable[appliedVariables.length];
+        for (int i = 0; i < appliedVariables.length; i++) {
+            IVariable appliedVariable = appliedVariables[i];
+            IValue value = appliedVariable.getValue();
+            if (!ParallelOperatorHelpers.isThreadSafeValueType(value.getType())) {
+                return null;
+            }
+            variables[i] = new Variable<>(appliedVariable.getType(), value);
+        }
+        return new CurriedOperator(threadSafeBaseOperator, variables);
+    }
+
     public static class Serializer implements IOperatorSerializer<CurriedOperator> {
 
         @Override
@@ -175,7 +222,7 @@ public class CurriedOperator implements IOperator {
                 NBTTagCompound valueTag = new NBTTagCompound();
                 IValueType valueType = value.getType();
                 valueTag.setString("valueType", valueType.getTranslationKey());
-                valueTag.setString("value", ValueHelpers.serializeRaw(value));
+                valueTag.setTag("value", valueType.serializeNbt(value));
                 list.appendTag(valueTag);
             }
 
@@ -200,7 +247,7 @@ public class CurriedOperator implements IOperator {
             for (int i = 0; i < list.tagCount(); i++) {
                 NBTTagCompound valuetag = list.getCompoundTagAt(i);
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(valuetag.getString("valueType"));
-                IValue value = ValueHelpers.deserializeRaw(valueType, valuetag.getString("value"));
+                IValue value = ValueHelpers.deserializeNbt(valueType, valuetag.getTag("value"));
                 variables[i] = new Variable(valueType, value);
             }
             IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserialize(tag.getString("baseOperator")));
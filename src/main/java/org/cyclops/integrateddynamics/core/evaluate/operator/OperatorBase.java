@@ -9,8 +9,10 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
@@ -31,7 +33,6 @@ public abstract class OperatorBase implements IOperator {
     private final IConfigRenderPattern renderPattern;
 
     private String translationKey = null;
-    private int recursiveInvocations;
 
     protected OperatorBase(String symbol, String operatorName, IValueType[] inputTypes, IValueType outputType,
                            IFunction function, @Nullable IConfigRenderPattern renderPattern) {
@@ -133,21 +134,50 @@ public abstract class OperatorBase implements IOperator {
 
     @Override
     public IValue evaluate(IVariable... input) throws EvaluationException {
-        if (this.recursiveInvocations++ > GeneralConfig.operatorRecursionLimit) {
-            this.recursiveInvocations = 0;
-            throw new EvaluationException(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
-                    GeneralConfig.operatorRecursionLimit,
-                    new L10NHelpers.UnlocalizedString(this.getTranslationKey())
-            ).localize());
+        if (EvaluationProfiler.isEnabled()) {
+            long startNs = System.nanoTime();
+            long startBytes = EvaluationProfiler.getAllocatedBytes();
+            try {
+                return evaluateOperator(input);
+            } finally {
+                EvaluationProfiler.recordOperator(this, startNs, startBytes);
+            }
         }
-        L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
-        if(error != null) {
-            this.recursiveInvocations--;
-            throw new EvaluationException(error.localize());
+        return evaluateOperator(input);
+    }
+
+    protected IValue evaluateOperator(IVariable[] input) throws EvaluationException {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        watchdog.enter();
+        try {
+            watchdog.checkInvocation();
+            return evaluateFunction(input);
+        } catch (EvaluationWatchdog.LimitExceededException e) {
+            throw new EvaluationException(e.getMessage());
+        } finally {
+            watchdog.exit();
+        }
+    }
+
+    protected IValue evaluateFunction(IVariable[] input) throws EvaluationException {
+        // The recursion depth is tracked per thread, as pure operators may be invoked concurrently on multiple threads.
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        try {
+            if (watchdog.enterOperator(this) > GeneralConfig.operatorRecursionLimit) {
+                throw new EvaluationException(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
+                        GeneralConfig.operatorRecursionLimit,
+                        new L10NHelpers.UnlocalizedString(this.getTranslationKey())
+                ).localize());
+            }
+            L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
+            if(error != null) {
+                throw new EvaluationException(error.localize());
+            }
+            return function.evaluate(new SafeVariablesGetter(input));
+        } finally {
+            // Also decrement when evaluation failed, so that the counter is reset once the stack has been unwound.
+            watchdog.exitOperator(this);
         }
-        IValue res = function.evaluate(new SafeVariablesGetter(input));
-        this.recursiveInvocations--;
-        return res;
     }
 
     @Override
@@ -198,6 +228,13 @@ public abstract class OperatorBase implements IOperator {
         return this;
     }
 
+    /**
+     * @return If this operator is pure and may be evaluated concurrently from multiple threads.
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     public static class SafeVariablesGetter {
 
         private final IVariable[] variables;
@@ -68,6 +68,7 @@ import org.cyclops.commoncapabilities.api.ingredient.PrototypedIngredient;
 import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -239,10 +240,13 @@ public final class Operators {
                 ValueTypeInteger.ValueInteger b = variables.getValue(1);
                 if (b.getRawValue() == 0) { // You can not divide by zero
                     throw new EvaluationException("Division by zero");
-                } else if (b.getRawValue() == 1) { // If b is neutral element for division
+                } else if (b.getRawValue() == 1 || b.getRawValue() == -1) { // If b is neutral element for division
                     return ZERO;
                 } else {
                     ValueTypeInteger.ValueInteger a = variables.getValue(0);
+                    if (a.getRawValue() >= 0 && a.getRawValue() < Math.abs(b.getRawValue())) { // If a is its own remainder
+                        return a;
+                    }
                     return ValueTypeInteger.ValueInteger.of(a.getRawValue() % b.getRawValue());
                 }
             }).build());
@@ -897,6 +901,10 @@ public final class Operators {
                 ValueTypeList.ValueList valueList = variables.getValue(0);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 IValue input = variables.getValue(1);
+                ValueTypeListIndex<IValue> index = ValueTypeListIndex.of(list);
+                if (index != null) {
+                    return ValueTypeBoolean.ValueBoolean.of(index.contains(input));
+                }
                 for (IValue value : list) {
                     if (value.equals(input)) {
                         return ValueTypeBoolean.ValueBoolean.of(true);
@@ -940,6 +948,10 @@ public final class Operators {
                     throw new EvaluationException("Counting elements in an infinite list is not allowed");
                 }
                 IValue value = variables.getValue(1);
+                ValueTypeListIndex<IValue> index = ValueTypeListIndex.of(list);
+                if (index != null) {
+                    return ValueTypeInteger.ValueInteger.of(index.count(value));
+                }
                 int count = 0;
                 for (IValue listValue : list) {
                     if (listValue.equals(value)) {
@@ -963,6 +975,16 @@ public final class Operators {
                     throw new EvaluationException("Counting elements in an infinite list is not allowed");
                 }
                 IOperator operator = OperatorBuilders.getSafePredictate(variables.getValue(1));
+                IOperator parallelOperator = ParallelOperatorHelpers.getParallelOperator(operator, list);
+                if (parallelOperator != null) {
+                    int count = 0;
+                    for (boolean result : ParallelOperatorHelpers.test(parallelOperator, ParallelOperatorHelpers.getElements(list))) {
+                        if (result) {
+                            count++;
+                        }
+                    }
+                    return ValueTypeInteger.ValueInteger.of(count);
+                }
                 int count = 0;
                 for (IValue listValue : list) {
                     IValue result = ValueHelpers.evaluateOperator(operator, listValue);
@@ -991,6 +1013,9 @@ public final class Operators {
                             a.getValueType(), value.getType());
                     throw new EvaluationException(error.localize());
                 }
+                if (ValueTypeListProxyPersistent.canWrap(a)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyPersistent.wrap(a).append(value));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyAppend(a, value));
             }).build());
 
@@ -1012,6 +1037,10 @@ public final class Operators {
                             a.getValueType(), b.getValueType());
                     throw new EvaluationException(error.localize());
                 }
+                if (ValueTypeListProxyPersistent.canWrap(a) && ValueTypeListProxyPersistent.canWrap(b)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyPersistent.wrap(a)
+                            .concat(ValueTypeListProxyPersistent.wrap(b)));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyConcat(a, b));
             }).build());
 
@@ -1063,6 +1092,9 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeList.ValueList list = variables.getValue(0);
                 IValueTypeListProxy a = list.getRawValue();
+                if (ValueTypeListProxyPersistent.canWrap(a)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyPersistent.wrap(a).slice(1, a.getLength()));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyTail(a));
             }).build());
 
@@ -1078,6 +1110,37 @@ public final class Operators {
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 final IOperator operator = OperatorBuilders.getSafePredictate(variables.getValue(1));
                 List<IValue> values = new ArrayList<>();
+                IOperator parallelOperator = ParallelOperatorHelpers.getParallelOperator(operator, list);
+                if (parallelOperator != null) {
+                    // Once enough unique values are found, compare batches of values with them in parallel.
+                    List<IValue> batch = new ArrayList<>();
+                    for (IValue value : list) {
+                        if (values.size() < GeneralConfig.operatorParallelismThreshold) {
+                            boolean unique = true;
+                            for (IValue existing : values) {
+                                IValue result = ValueHelpers.evaluateOperator(parallelOperator, value, existing);
+                                ValueHelpers.validatePredicateOutput(parallelOperator, result);
+                                if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
+                                    unique = false;
+                                    break;
+                                }
+                            }
+                            if (unique) {
+                                values.add(value);
+                            }
+                        } else {
+                            batch.add(value);
+                            if (batch.size() >= GeneralConfig.operatorParallelismThreshold) {
+                                ParallelOperatorHelpers.addUnique(parallelOperator, batch, values);
+                                batch.clear();
+                            }
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        ParallelOperatorHelpers.addUnique(parallelOperator, batch, values);
+                    }
+                    return ValueTypeList.ValueList.ofList(list.getValueType(), values);
+                }
                 outerLoop:
                 for(IValue value : list) {
                     for(IValue existing : values) {
@@ -1105,6 +1168,10 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeList.ValueList valueList =variables.getValue(0);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
+                ValueTypeListIndex<IValue> index = ValueTypeListIndex.of(list);
+                if (index != null) {
+                    return ValueTypeList.ValueList.ofList(list.getValueType(), index.getUniqueElements());
+                }
                 return ValueTypeList.ValueList.ofList(list.getValueType(), new ArrayList<>(Sets.newLinkedHashSet(list)));
             }).build());
 
@@ -1126,6 +1193,10 @@ public final class Operators {
                 if (from.getRawValue() < 0 || to.getRawValue() < 0){
                     throw new EvaluationException("The 'from' and 'to' values in the slice operator must not be negative.");
                 }
+                if (ValueTypeListProxyPersistent.canWrap(list)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyPersistent.wrap(list)
+                            .slice(from.getRawValue(), to.getRawValue()));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, from.getRawValue(), to.getRawValue()));
             }).build());
 
@@ -2552,6 +2623,21 @@ public final class Operators {
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0);
                             List<IValue> filtered = Lists.newArrayList();
+                            IOperator parallelOperator = ParallelOperatorHelpers.getParallelOperator(innerOperator, inputList.getRawValue());
+                            if (parallelOperator != null) {
+                                IValue[] parallelValues = ParallelOperatorHelpers.getElements(inputList.getRawValue());
+                                boolean[] results = ParallelOperatorHelpers.test(parallelOperator, parallelValues);
+                                for (int i = 0; i < parallelValues.length; i++) {
+                                    if (results[i]) {
+                                        filtered.add(parallelValues[i]);
+                                    }
+                                }
+                                return ValueTypeList.ValueList.ofList(inputList.getRawValue().getValueType(), filtered);
+                            }
+                            if (!inputList.getRawValue().isInfinite()) {
+                                // Filter lazily, so that consumers such as reduce can stream over the source list.
+                                return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyOperatorFiltered(innerOperator, inputList.getRawValue()));
+                            }
                             for (IValue value : inputList.getRawValue()) {
                                 IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
                                 ValueHelpers.validatePredicateOutput(innerOperator, result);
@@ -2658,6 +2744,14 @@ public final class Operators {
                 final IOperator innerOperator = OperatorBuilders.getSafeOperator(
                         variables.getValue(0), accumulator.getType());
                 ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1);
+                if (accumulator.getType() == inputList.getRawValue().getValueType()
+                        && ParallelOperatorHelpers.isAssociative(innerOperator, accumulator.getType())) {
+                    IOperator parallelOperator = ParallelOperatorHelpers.getParallelOperator(innerOperator, inputList.getRawValue());
+                    if (parallelOperator != null) {
+                        return ParallelOperatorHelpers.reduce(parallelOperator, accumulator,
+                                ParallelOperatorHelpers.getElements(inputList.getRawValue()));
+                    }
+                }
                 for (IValue listValue : inputList.getRawValue()) {
                     accumulator = ValueHelpers.evaluateOperator(innerOperator, accumulator, listValue);
                 }
@@ -2681,6 +2775,18 @@ public final class Operators {
             })
             .function(variables -> {
                 ValueTypeList.ValueList valueList = variables.getValue(1);
+                IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
+                if (GeneralConfig.operatorParallelism && !list.isInfinite()
+                        && list.getLength() >= GeneralConfig.operatorParallelismThreshold) {
+                    IValue head = list.get(0);
+                    IOperator innerOperator = OperatorBuilders.getSafeOperator(variables.getValue(0), head.getType());
+                    if (ParallelOperatorHelpers.isAssociative(innerOperator, list.getValueType())) {
+                        IOperator parallelOperator = ParallelOperatorHelpers.getParallelOperator(innerOperator, list);
+                        if (parallelOperator != null) {
+                            return ParallelOperatorHelpers.reduce(parallelOperator, null, ParallelOperatorHelpers.getElements(list));
+                        }
+                    }
+                }
                 Iterator<IValue> iter = valueList.getRawValue().iterator();
                 if (!iter.hasNext()) {
                     throw new EvaluationException("The reduce1 operator tried to get the head of an empty list. " +
@@ -0,0 +1,319 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+
+/**
+ * Helpers for evaluating operators over the elements of large lists on multiple threads.
+ *
+ * Lists are split into a fixed number of contiguous chunks that are each evaluated sequentially,
+ * so that element order is preserved.
+ * When evaluation fails, the error of the chunk with the lowest index is thrown,
+ * which is the same error that a sequential evaluation would throw.
+ *
+ * This is only applied for thread-safe operators (see {@link OperatorBase#isThreadSafe()})
+ * over lists of primitive value types that are at least {@link GeneralConfig#operatorParallelismThreshold} long.
+ */
+public class ParallelOperatorHelpers {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static ForkJoinPool pool = null;
+    private static Set<IOperator> associativeOperators = null;
+
+    protected static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(GeneralConfig.operatorParallelismThreads);
+        }
+        return pool;
+    }
+
+    protected static synchronized Set<IOperator> getAssociativeOperators() {
+        if (associativeOperators == null) {
+            associativeOperators = Sets.newIdentityHashSet();
+            associativeOperators.add(Operators.ARITHMETIC_ADDITION);
+            associativeOperators.add(Operators.ARITHMETIC_MULTIPLICATION);
+            associativeOperators.add(Operators.ARITHMETIC_MAXIMUM);
+            associativeOperators.add(Operators.ARITHMETIC_MINIMUM);
+            associativeOperators.add(Operators.LOGICAL_AND);
+            associativeOperators.add(Operators.LOGICAL_OR);
+            associativeOperators.add(Operators.BINARY_AND);
+            associativeOperators.add(Operators.BINARY_OR);
+            associativeOperators.add(Operators.BINARY_XOR);
+            associativeOperators.add(Operators.STRING_CONCAT);
+        }
+        return associativeOperators;
+    }
+
+    /**
+     * @param valueType A value type.
+     * @return If values of the given type are immutable and can be used from any thread.
+     */
+    public static boolean isThreadSafeValueType(IValueType valueType) {
+        return valueType == ValueTypes.BOOLEAN
+                || valueType == ValueTypes.INTEGER
+                || valueType == ValueTypes.LONG
+                || valueType == ValueTypes.DOUBLE
+                || valueType == ValueTypes.STRING;
+    }
+
+    /**
+     * @param operator An operator.
+     * @return If the given operator is pure and can be evaluated concurrently.
+     */
+    public static boolean isThreadSafe(IOperator operator) {
+        if (operator instanceof OperatorBase) {
+            return ((OperatorBase) operator).isThreadSafe();
+        }
+        if (operator instanceof CurriedOperator) {
+            return ((CurriedOperator) operator).isThreadSafe();
+        }
+        return false;
+    }
+
+    /**
+     * @param operator An operator with two inputs.
+     * @param valueType The type of both the accumulator and the list elements.
+     * @return If the given operator can be used to reduce chunks of a list independently.
+     */
+    public static boolean isAssociative(IOperator operator, IValueType valueType) {
+        // Floating point arithmetic is not associative.
+        return valueType != ValueTypes.DOUBLE && getAssociativeOperators().contains(operator);
+    }
+
+    protected static boolean isInParallelContext() {
+        return ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool;
+    }
+
+    /**
+     * Get a thread-safe variant of the given operator.
+     * Curried operators are copied with their applied variables evaluated on the calling thread.
+     * @param operator An operator.
+     * @return A thread-safe operator that is equivalent to the given operator, or null if none exists.
+     * @throws EvaluationException If applied variables could not be evaluated.
+     */
+    @Nullable
+    public static IOperator toThreadSafeOperator(IOperator operator) throws EvaluationException {
+        if (isThreadSafe(operator)) {
+            return operator;
+        }
+        if (operator instanceof CurriedOperator) {
+            return ((CurriedOperator) operator).toThreadSafe();
+        }
+        return null;
+    }
+
+    /**
+     * Get the operator that may be applied to all elements of the given list in parallel.
+     * @param operator The operator that would be applied to all list elements.
+     * @param list The list.
+     * @return A thread-safe variant of the operator, or null if parallel evaluation is not applicable.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    @Nullable
+    public static IOperator getParallelOperator(IOperator operator, IValueTypeListProxy<?, ?> list) throws EvaluationException {
+        if (!GeneralConfig.operatorParallelism || list.isInfinite() || isInParallelContext()
+                || !isThreadSafeValueType(list.getValueType())
+                || list.getLength() < GeneralConfig.operatorParallelismThreshold) {
+            return null;
+        }
+        return toThreadSafeOperator(operator);
+    }
+
+    /**
+     * Get the elements of the given list.
+     * The list elements are retrieved on the calling thread, so that list proxies never have to be thread-safe.
+     * @param list The list.
+     * @return The list elements.
+     */
+    public static IValue[] getElements(IValueTypeListProxy<?, ?> list) {
+        return Iterables.toArray(list, IValue.class);
+    }
+
+    /**
+     * Test all given values with the given predicate.
+     * @param predicate The predicate.
+     * @param values The values.
+     * @return The predicate result for each value.
+     * @throws EvaluationException If evaluation failed for any value.
+     */
+    public static boolean[] test(IOperator predicate, IValue[] values) throws EvaluationException {
+        boolean[] results = new boolean[values.length];
+        runChunks(values.length, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                IValue result = ValueHelpers.evaluateOperator(predicate, values[i]);
+                ValueHelpers.validatePredicateOutput(predicate, result);
+                results[i] = ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+            }
+            return null;
+        });
+        return results;
+    }
+
+    /**
+     * Add the given values to the given list of unique values, in order,
+     * if the given binary predicate does not hold for any of the unique values.
+     *
+     * The values are first compared with all unique values that were already present in parallel,
+     * and are then compared with the unique values that were added within this batch on the calling thread.
+     * The result and the thrown error are the same as those of a sequential deduplication.
+     * @param predicate The predicate, which will be called with the value as first and the unique value as second argument.
+     * @param values The values to add.
+     * @param uniqueValues The unique values, which will be extended.
+     * @throws EvaluationException If evaluation failed.
+     */
+    public static void addUnique(IOperator predicate, List<IValue> values, List<IValue> uniqueValues) throws EvaluationException {
+        int existingSize = uniqueValues.size();
+        Object[] firstMatches = new Object[values.size()];
+        runChunks(values.size(), (start, end) -> {
+            for (int i = start; i < end; i++) {
+                firstMatches[i] = getFirstMatch(predicate, values.get(i), uniqueValues, 0, existingSize);
+            }
+            return null;
+        });
+        for (int i = 0; i < values.size(); i++) {
+            Object firstMatch = firstMatches[i];
+            if (firstMatch instanceof Throwable) {
+                throw toEvaluationException((Throwable) firstMatch);
+            }
+            if ((Integer) firstMatch < 0) {
+                firstMatch = getFirstMatch(predicate, values.get(i), uniqueValues, existingSize, uniqueValues.size());
+                if (firstMatch instanceof Throwable) {
+                    throw toEvaluationException((Throwable) firstMatch);
+                }
+                if ((Integer) firstMatch < 0) {
+                    uniqueValues.add(values.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the first candidate in the given range for which the given binary predicate holds with the given value.
+     * @param predicate The predicate.
+     * @param value The value.
+     * @param candidates The candidates.
+     * @param start The start index (inclusive).
+     * @param end The end index (exclusive).
+     * @return The index of the first matching candidate, -1 if none matches,
+     *         or the error of the first failing evaluation before a match.
+     */
+    protected static Object getFirstMatch(IOperator predicate, IValue value, List<IValue> candidates, int start, int end) {
+        try {
+            for (int i = start; i < end; i++) {
+                IValue result = ValueHelpers.evaluateOperator(predicate, value, candidates.get(i));
+                ValueHelpers.validatePredicateOutput(predicate, result);
+                if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
+                    return i;
+                }
+            }
+        } catch (EvaluationException | RuntimeException e) {
+            return e;
+        }
+        return -1;
+    }
+
+    /**
+     * Reduce the given values with the given associative operator.
+     * @param operator The associative operator.
+     * @param accumulator The initial value, or null if the first value must be used as initial value.
+     * @param values The values.
+     * @return The reduced value.
+     * @throws EvaluationException If evaluation failed.
+     */
+    public static IValue reduce(IOperator operator, @Nullable IValue accumulator, IValue[] values) throws EvaluationException {
+        List<Object> chunkResults = runChunks(values.length, (start, end) -> {
+            IValue chunkAccumulator = values[start];
+            for (int i = start + 1; i < end; i++) {
+                chunkAccumulator = ValueHelpers.evaluateOperator(operator, chunkAccumulator, values[i]);
+            }
+            return chunkAccumulator;
+        });
+        for (Object chunkResult : chunkResults) {
+            accumulator = accumulator == null ? (IValue) chunkResult
+                    : ValueHelpers.evaluateOperator(operator, accumulator, (IValue) chunkResult);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Split the given range in chunks and evaluate them in parallel.
+     * The chunks share the deadline and the element budget of the evaluation on the calling thread.
+     * @param length The range length.
+     * @param function The function to apply on each chunk.
+     * @return The chunk results, in chunk order.
+     * @throws EvaluationException The error of the first failing chunk.
+     */
+    protected static List<Object> runChunks(int length, IChunkFunction function) throws EvaluationException {
+        ForkJoinPool pool = getPool();
+        int chunks = Math.max(1, Math.min(length, pool.getParallelism() * CHUNKS_PER_THREAD));
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        EvaluationWatchdog.Fork fork = watchdog.fork();
+        List<Callable<Object>> tasks = Lists.newArrayListWithCapacity(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = (int) ((long) length * chunk / chunks);
+            int end = (int) ((long) length * (chunk + 1) / chunks);
+            tasks.add(() -> EvaluationWatchdog.get().evaluateInFork(fork, () -> function.apply(start, end)));
+        }
+
+        List<Object> results = Lists.newArrayListWithCapacity(chunks);
+        try {
+            for (Future<Object> future : pool.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    // Chunks are checked in order, so this is the error that a sequential evaluation would throw.
+                    throw toEvaluationException(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvaluationException("Parallel list evaluation was interrupted.");
+        } finally {
+            watchdog.join(fork);
+        }
+        return results;
+    }
+
+    protected static EvaluationException toEvaluationException(Throwable throwable) {
+        if (throwable instanceof EvaluationException) {
+            return (EvaluationException) throwable;
+        }
+        return new EvaluationException(throwable instanceof EvaluationWatchdog.LimitExceededException
+                ? throwable.getMessage() : String.valueOf(throwable));
+    }
+
+    public static interface IChunkFunction {
+
+        /**
+         * Evaluate a chunk.
+         * @param start The start index (inclusive).
+         * @param end The end index (exclusive).
+         * @return The chunk result.
+         * @throws EvaluationException If evaluation failed.
+         */
+        public Object apply(int start, int end) throws EvaluationException;
+
+    }
+
+}
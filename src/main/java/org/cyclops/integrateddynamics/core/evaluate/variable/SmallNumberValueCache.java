@@ -0,0 +1,56 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.function.IntFunction;
+
+/**
+ * Reuses the values of small whole numbers.
+ * Small numbers are very common in evaluations, so these are reused instead of allocating new instances,
+ * similar to {@link Integer#valueOf(int)}.
+ *
+ * Values that are created before their value type is registered have no type,
+ * so these are not cached, as otherwise they would be returned after registration as well.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public class SmallNumberValueCache<V extends IValue> {
+
+    public static final int LOW = -128;
+    public static final int HIGH = 1023;
+
+    private final IntFunction<V> factory;
+    private final IValue[] values = new IValue[HIGH - LOW + 1];
+
+    /**
+     * @param factory A factory for creating a new value for a number.
+     */
+    public SmallNumberValueCache(IntFunction<V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param number A number.
+     * @return If the value for the given number can be obtained from a cache.
+     */
+    public static boolean contains(long number) {
+        return number >= LOW && number <= HIGH;
+    }
+
+    /**
+     * @param number A number for which {@link #contains(long)} holds.
+     * @return The cached value for the given number.
+     */
+    public V get(int number) {
+        int index = number - LOW;
+        V value = (V) values[index];
+        if (value == null) {
+            value = factory.apply(number);
+            if (value.getType() != null) {
+                values[index] = value;
+            }
+        }
+        return value;
+    }
+
+}
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -21,6 +24,9 @@ import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import com.google.common.annotations.VisibleForTesting;
 
 import javax.annotation.Nullable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * A collection of helpers for variables, values and value types.
@@ -231,6 +237,99 @@ public class ValueHelpers {
         return sb.toString();
     }
     
+    /**
+     * Serialize the given value to an NBT tag, without including its value type.
+     * Unlike {@link #serializeRaw(IValue)}, nested values are stored as nested tags,
+     * so they don't have to be escaped at every level.
+     * @param value The value.
+     * @return The NBT tag.
+     */
+    public static NBTBase serializeNbt(IValue value) {
+        NBTBase tag = value.getType().serializeNbt(value);
+        if (tag instanceof NBTTagString) {
+            String raw = compressSlashes(((NBTTagString) tag).getString());
+            return new NBTTagString(raw.length() >= GeneralConfig.maxValueByteSize ? "TOO LONG" : raw);
+        }
+        if (tag instanceof NBTTagCompound && getByteSize((NBTTagCompound) tag, GeneralConfig.maxValueByteSize) >= GeneralConfig.maxValueByteSize) {
+            return new NBTTagString("TOO LONG");
+        }
+        return tag;
+    }
+
+    /**
+     * Deserialize the given NBT tag to a value.
+     * String tags, which are also used by values that were stored with {@link #serializeRaw(IValue)},
+     * are deserialized with {@link #deserializeRaw(IValueType, String)}.
+     * @param valueType The value type to deserialize for.
+     * @param tag The NBT tag.
+     * @param <T> The type of value.
+     * @return The value.
+     */
+    public static <T extends IValue> T deserializeNbt(IValueType<T> valueType, NBTBase tag) {
+        if (tag instanceof NBTTagString) {
+            return deserializeRaw(valueType, ((NBTTagString) tag).getString());
+        }
+        return valueType.deserializeNbt(tag);
+    }
+
+    /**
+     * Determine the number of bytes the given tag takes in its binary form.
+     * The tag is written to a stream that only counts bytes, and writing stops as soon as the given limit is reached.
+     * @param tag An NBT tag.
+     * @param limit The size at which counting may stop.
+     * @return The number of bytes the given tag takes in its binary form,
+     *         or a number larger than or equal to the limit if the tag is at least as large.
+     */
+    protected static int getByteSize(NBTTagCompound tag, int limit) {
+        LimitedCountingOutputStream outputStream = new LimitedCountingOutputStream(limit);
+        try {
+            CompressedStreamTools.write(tag, new DataOutputStream(outputStream));
+        } catch (LimitedCountingOutputStream.LimitReachedException e) {
+            // Stop writing once the limit is reached
+        } catch (IOException e) {
+            return Integer.MAX_VALUE;
+        }
+        return outputStream.getCount();
+    }
+
+    /**
+     * An output stream that discards all bytes, and fails once a given number of bytes has been written.
+     */
+    protected static class LimitedCountingOutputStream extends OutputStream {
+
+        private final int limit;
+        private int count = 0;
+
+        public LimitedCountingOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        protected void add(int length) throws LimitReachedException {
+            count += length;
+            if (count >= limit) {
+                throw new LimitReachedException();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            add(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            add(len);
+        }
+
+        public static class LimitReachedException extends IOException {
+
+        }
+    }
+
     /**
      * Serialize the given value to NBT.
      * @param value The value.
@@ -239,7 +338,7 @@ public class ValueHelpers {
     public static NBTTagCompound serialize(IValue value) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("valueType", value.getType().getTranslationKey());
-        tag.setString("value", serializeRaw(value));
+        tag.setTag("value", serializeNbt(value));
         return tag;
     }
 
@@ -253,7 +352,7 @@ public class ValueHelpers {
         if (valueType == null) {
             return null;
         }
-        return deserializeRaw(valueType, tag.getString("value"));
+        return deserializeNbt(valueType, tag.getTag("value"));
     }
 
     /**
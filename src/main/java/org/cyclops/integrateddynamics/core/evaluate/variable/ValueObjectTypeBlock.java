@@ -143,6 +143,17 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
             Block blockB = b.getBlock();
             return blockA == blockB && blockA.getMetaFromState(a) == blockB.getMetaFromState(b);
         }
+
+        @Override
+        public int hashCode() {
+            // Only hash the block and meta, as states that differ in other properties are equal as well.
+            if (!getRawValue().isPresent()) {
+                return getType().hashCode();
+            }
+            IBlockState blockState = getRawValue().get();
+            Block block = blockState.getBlock();
+            return getType().hashCode() + 31 * block.hashCode() + block.getMetaFromState(blockState);
+        }
     }
 
 }
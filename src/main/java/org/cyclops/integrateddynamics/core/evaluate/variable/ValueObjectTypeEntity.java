@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.MapMaker;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
@@ -9,6 +10,9 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.client.FMLClientHandler;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
@@ -21,6 +25,8 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeUniquelyNa
 import org.cyclops.integrateddynamics.core.logicprogrammer.ValueTypeLPElementBase;
 
 import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -129,14 +135,25 @@ public class ValueObjectTypeEntity extends ValueObjectTypeBase<ValueObjectTypeEn
         return "";
     }
 
-    @ToString
+    @ToString(exclude = {"entityReference", "entityReferenceTick"})
     public static class ValueEntity extends ValueBase {
 
+        // Only weakly referenced, so that the last client world and its entities can be unloaded after leaving it.
+        private static WeakReference<World> clientWorld = null;
+        private static long clientEntitiesTick = -1;
+        private static Map<UUID, Entity> clientEntities = null;
+
         private final Optional<UUID> value;
+        private WeakReference<Entity> entityReference = null;
+        private long entityReferenceTick = -1;
 
         protected ValueEntity(@Nullable Entity value) {
             super(ValueTypes.OBJECT_ENTITY);
             this.value = value == null ? Optional.<UUID>absent() : Optional.of(value.getUniqueID());
+            if (value != null) {
+                this.entityReference = new WeakReference<>(value);
+                this.entityReferenceTick = getCurrentTick(value.world.isRemote);
+            }
         }
 
         private ValueEntity(@Nullable UUID entityUuid) {
@@ -150,19 +167,66 @@ public class ValueObjectTypeEntity extends ValueObjectTypeBase<ValueObjectTypeEn
         public Optional<Entity> getRawValue() {
             Optional<UUID> uuid = getUuid();
             if (uuid.isPresent()) {
-                if (MinecraftHelpers.isClientSide()) {
-                    for (Entity entity : FMLClientHandler.instance().getWorldClient().getLoadedEntityList()) {
-                        if (entity.getUniqueID().equals(uuid.get())) {
-                            return Optional.of(entity);
-                        }
+                boolean client = MinecraftHelpers.isClientSide();
+                long tick = getCurrentTick(client);
+                Entity entity = entityReference != null ? entityReference.get() : null;
+                // The resolved entity is validated once per tick, and is looked up again if it is no longer loaded.
+                if (entityReferenceTick != tick) {
+                    if (client) {
+                        entity = getClientEntity(uuid.get(), tick);
+                    } else if (entity == null || !isLoadedServerEntity(entity)) {
+                        entity = FMLCommonHandler.instance().getMinecraftServerInstance().getEntityFromUuid(uuid.get());
                     }
-                    return Optional.absent();
+                    entityReference = entity != null ? new WeakReference<>(entity) : null;
+                    entityReferenceTick = tick;
                 }
-                return Optional.fromNullable(FMLCommonHandler.instance().getMinecraftServerInstance().getEntityFromUuid(uuid.get()));
+                return Optional.fromNullable(entity);
             }
             return Optional.absent();
         }
 
+        protected static long getCurrentTick(boolean client) {
+            if (client) {
+                World world = FMLClientHandler.instance().getWorldClient();
+                return world != null ? world.getTotalWorldTime() : -1;
+            }
+            MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+            return server != null ? server.getTickCounter() : -1;
+        }
+
+        /**
+         * @param entity A server-side entity.
+         * @return If the entity is alive and still loaded in its world, which is not the case anymore once its chunk is unloaded.
+         */
+        protected static boolean isLoadedServerEntity(Entity entity) {
+            return !entity.isDead && entity.world instanceof WorldServer
+                    && ((WorldServer) entity.world).getEntityFromUuid(entity.getUniqueID()) == entity;
+        }
+
+        /**
+         * Find a loaded entity in the client world.
+         * The entities are indexed by UUID once per tick.
+         * @param uuid The entity UUID.
+         * @param tick The current client tick.
+         * @return The entity or null.
+         */
+        @Nullable
+        protected static synchronized Entity getClientEntity(UUID uuid, long tick) {
+            World world = FMLClientHandler.instance().getWorldClient();
+            if (world == null) {
+                return null;
+            }
+            if (clientEntities == null || clientWorld == null || clientWorld.get() != world || clientEntitiesTick != tick) {
+                clientWorld = new WeakReference<>(world);
+                clientEntitiesTick = tick;
+                clientEntities = new MapMaker().weakValues().makeMap();
+                for (Entity entity : world.getLoadedEntityList()) {
+                    clientEntities.put(entity.getUniqueID(), entity);
+                }
+            }
+            return clientEntities.get(uuid);
+        }
+
         public Optional<UUID> getUuid() {
             return value;
         }
@@ -181,7 +245,7 @@ public class ValueObjectTypeEntity extends ValueObjectTypeBase<ValueObjectTypeEn
 
         @Override
         public int hashCode() {
-            return getType().hashCode() + (getRawValue().isPresent() ? getRawValue().get().hashCode() : 0);
+            return getType().hashCode() + (value.isPresent() ? value.get().hashCode() : 0);
         }
 
         public static ValueEntity of(@Nullable Entity entity) {
@@ -4,6 +4,7 @@ import com.google.common.base.Optional;
 import lombok.ToString;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.FluidStack;
@@ -42,24 +43,32 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
 
     @Override
     public String serialize(ValueFluidStack value) {
-        NBTTagCompound tag = new NBTTagCompound();
-        Optional<FluidStack> fluidStack = value.getRawValue();
-        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
-        return tag.toString();
+        return serializeNbt(value).toString();
     }
 
     @Override
     public ValueFluidStack deserialize(String value) {
     	value = ValueHelpers.uncompressSlashes(value);
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            FluidStack fluidStack = FluidStack.loadFluidStackFromNBT(tag);
-            return ValueFluidStack.of(fluidStack);
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
         } catch (NBTException e) {
             return null;
         }
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(ValueFluidStack value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        Optional<FluidStack> fluidStack = value.getRawValue();
+        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
+        return tag;
+    }
+
+    @Override
+    public ValueFluidStack deserializeNbt(NBTBase tag) {
+        return ValueFluidStack.of(FluidStack.loadFluidStackFromNBT((NBTTagCompound) tag));
+    }
+
     @Override
     public String getName(ValueFluidStack a) {
         return toCompactString(a);
@@ -97,11 +106,14 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
                 String.format("%s %s", fluidStack.get().getFluid().getName(), fluidStack.get().amount) : "";
     }
 
-    @ToString
+    @ToString(exclude = "hash")
     public static class ValueFluidStack extends ValueOptionalBase<FluidStack> {
 
+        private int hash = 0;
+
         private ValueFluidStack(FluidStack fluidStack) {
-            super(ValueTypes.OBJECT_FLUIDSTACK, fluidStack);
+            // Copy the stack, as it may be a live stack that is modified afterwards, such as the contents of a tank.
+            super(ValueTypes.OBJECT_FLUIDSTACK, fluidStack != null ? fluidStack.copy() : null);
         }
 
         public static ValueFluidStack of(FluidStack fluidStack) {
@@ -112,6 +124,24 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
         protected boolean isEqual(FluidStack a, FluidStack b) {
             return a.isFluidStackIdentical(b);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || (o instanceof ValueFluidStack
+                    && o.hashCode() == this.hashCode()
+                    && super.equals(o));
+        }
+
+        @Override
+        public int hashCode() {
+            // Fluid values are immutable, so the hash only has to be calculated once.
+            int hash = this.hash;
+            if (hash == 0) {
+                hash = super.hashCode();
+                this.hash = hash;
+            }
+            return hash;
+        }
     }
 
 }
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.base.Strings;
 import lombok.ToString;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.commoncapabilities.api.ingredient.IMixedIngredients;
@@ -65,9 +66,24 @@ public class ValueObjectTypeIngredients extends ValueObjectTypeBase<ValueObjectT
     	value = ValueHelpers.uncompressSlashes(value);
         if(Strings.isNullOrEmpty(value)) return ValueIngredients.of(null);
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            return ValueIngredients.of(IMixedIngredients.deserialize(tag));
-        } catch (NBTException | IllegalArgumentException e) {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            return ValueIngredients.of(null);
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(ValueIngredients value) {
+        if(!value.getRawValue().isPresent()) return new NBTTagCompound();
+        return IMixedIngredients.serialize(value.getRawValue().get());
+    }
+
+    @Override
+    public ValueIngredients deserializeNbt(NBTBase tag) {
+        if(((NBTTagCompound) tag).getSize() == 0) return ValueIngredients.of(null);
+        try {
+            return ValueIngredients.of(IMixedIngredients.deserialize((NBTTagCompound) tag));
+        } catch (IllegalArgumentException e) {
             return ValueIngredients.of(null);
         }
     }
@@ -6,6 +6,7 @@ import lombok.ToString;
 import net.minecraft.advancements.critereon.ItemPredicate;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
@@ -62,32 +63,42 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
 
     @Override
     public String serialize(ValueItemStack value) {
+        return serializeNbt(value).toString();
+    }
+
+    @Override
+    public ValueItemStack deserialize(String value) {
+    	value = ValueHelpers.uncompressSlashes(value);
+        try {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            return ValueItemStack.of(ItemStack.EMPTY);
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(ValueItemStack value) {
         NBTTagCompound tag = new NBTTagCompound();
         ItemStack itemStack = value.getRawValue();
         if(!itemStack.isEmpty()) {
             itemStack.writeToNBT(tag);
             tag.setInteger("Count", itemStack.getCount());
         }
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public ValueItemStack deserialize(String value) {
-    	value = ValueHelpers.uncompressSlashes(value);
-        try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            // Forge returns air for tags with negative count,
-            // so we set it to 1 for deserialization and fix it afterwards.
-            int realCount = tag.getInteger("Count");
-            tag.setByte("Count", (byte)1);
-            ItemStack itemStack = new ItemStack(tag);
-            if (!itemStack.isEmpty()) {
-                itemStack.setCount(realCount);
-            }
-            return ValueItemStack.of(itemStack);
-        } catch (NBTException e) {
-            return ValueItemStack.of(ItemStack.EMPTY);
+    public ValueItemStack deserializeNbt(NBTBase tag) {
+        NBTTagCompound itemTag = ((NBTTagCompound) tag).copy();
+        // Forge returns air for tags with negative count,
+        // so we set it to 1 for deserialization and fix it afterwards.
+        int realCount = itemTag.getInteger("Count");
+        itemTag.setByte("Count", (byte)1);
+        ItemStack itemStack = new ItemStack(itemTag);
+        if (!itemStack.isEmpty()) {
+            itemStack.setCount(realCount);
         }
+        return ValueItemStack.of(itemStack);
     }
 
     @Override
@@ -142,14 +153,17 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
                 + (itemStack.getMetadata() > 0 ? " " + itemStack.getMetadata() : "") : "";
     }
 
-    @ToString
+    @ToString(exclude = "hash")
     public static class ValueItemStack extends ValueBase {
 
         private final ItemStack itemStack;
+        private int hash = 0;
 
         private ValueItemStack(ItemStack itemStack) {
             super(ValueTypes.OBJECT_ITEMSTACK);
-            this.itemStack = Objects.requireNonNull(itemStack, "Attempted to create a ValueItemStack for a null ItemStack.");
+            Objects.requireNonNull(itemStack, "Attempted to create a ValueItemStack for a null ItemStack.");
+            // Copy the stack, as it may be a live stack that is modified afterwards, such as the stack in an inventory slot.
+            this.itemStack = itemStack.isEmpty() ? ItemStack.EMPTY : itemStack.copy();
         }
 
         public static ValueItemStack of(ItemStack itemStack) {
@@ -162,12 +176,29 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
 
         @Override
         public boolean equals(Object o) {
-            return o instanceof ValueItemStack && ItemStack.areItemStacksEqual(((ValueItemStack) o).itemStack, this.itemStack);
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof ValueItemStack)) {
+                return false;
+            }
+            ItemStack other = ((ValueItemStack) o).itemStack;
+            if (other.isEmpty() || this.itemStack.isEmpty()) {
+                return other.isEmpty() && this.itemStack.isEmpty();
+            }
+            return o.hashCode() == this.hashCode() && ItemStack.areItemStacksEqual(other, this.itemStack);
         }
 
         @Override
         public int hashCode() {
-            return 37 + ItemStackHelpers.getItemStackHashCode(itemStack);
+            // Item values are immutable, so the hash only has to be calculated once.
+            int hash = this.hash;
+            if (hash == 0) {
+                // All empty stacks are equal, so these must have the same hash.
+                hash = 37 + (itemStack.isEmpty() ? 0 : ItemStackHelpers.getItemStackHashCode(itemStack));
+                this.hash = hash;
+            }
+            return hash;
         }
     }
 
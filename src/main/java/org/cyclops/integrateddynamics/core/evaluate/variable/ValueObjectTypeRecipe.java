@@ -4,6 +4,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Iterables;
 import lombok.ToString;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IPrototypedIngredientAlternatives;
@@ -74,13 +75,24 @@ public class ValueObjectTypeRecipe extends ValueObjectTypeBase<ValueObjectTypeRe
     	value = ValueHelpers.uncompressSlashes(value);
         if(Strings.isNullOrEmpty(value)) return ValueRecipe.of(null);
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            return ValueRecipe.of(IRecipeDefinition.deserialize(tag));
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
         } catch (NBTException e) {
             return ValueRecipe.of(null);
         }
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(ValueRecipe value) {
+        if(!value.getRawValue().isPresent()) return new NBTTagCompound();
+        return IRecipeDefinition.serialize(value.getRawValue().get());
+    }
+
+    @Override
+    public ValueRecipe deserializeNbt(NBTBase tag) {
+        if(((NBTTagCompound) tag).getSize() == 0) return ValueRecipe.of(null);
+        return ValueRecipe.of(IRecipeDefinition.deserialize((NBTTagCompound) tag));
+    }
+
     @Override
     public String getName(ValueRecipe a) {
         return toCompactString(a);
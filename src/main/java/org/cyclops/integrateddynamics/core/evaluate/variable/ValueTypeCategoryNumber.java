@@ -73,7 +73,24 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
         return ((IValueTypeNumber) valueType);
     }
 
+    /**
+     * If both variables are integers, in which case the type resolution and casting can be skipped.
+     * @param a The first variable.
+     * @param b The second variable.
+     * @return If both variables are integers.
+     */
+    protected static boolean areIntegers(IVariable a, IVariable b) {
+        return a.getType() == ValueTypes.INTEGER && b.getType() == ValueTypes.INTEGER;
+    }
+
+    protected static int getInt(IVariable a) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) a.getValue()).getRawValue();
+    }
+
     public IValue add(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) + getInt(b));
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is neutral element for addition
@@ -89,6 +106,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue subtract(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) - getInt(b));
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue bv = castValue(type, b.getValue());
         if (type.isZero(bv)) { // If b is neutral element for subtraction
@@ -100,6 +120,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue multiply(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) * getInt(b));
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is absorbtion element for multiplication
@@ -117,6 +140,13 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue divide(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            int bv = getInt(b);
+            if (bv == 0) { // You can not divide by zero
+                throw new EvaluationException("Division by zero");
+            }
+            return ValueTypeInteger.ValueInteger.of(getInt(a) / bv);
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue bv = castValue(type, b.getValue());
         if (type.isZero(bv)) { // You can not divide by zero
@@ -130,6 +160,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue max(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return ValueTypeInteger.ValueInteger.of(Math.max(getInt(a), getInt(b)));
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.max(
                 castValue(type, a.getValue()),
@@ -138,6 +171,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue min(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return ValueTypeInteger.ValueInteger.of(Math.min(getInt(a), getInt(b)));
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.min(
                 castValue(type, a.getValue()),
@@ -146,6 +182,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public boolean greaterThan(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return getInt(a) > getInt(b);
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.greaterThan(
                 castValue(type, a.getValue()),
@@ -154,6 +193,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public boolean lessThan(IVariable a, IVariable b) throws EvaluationException {
+        if (areIntegers(a, b)) {
+            return getInt(a) < getInt(b);
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.lessThan(
                 castValue(type, a.getValue()),
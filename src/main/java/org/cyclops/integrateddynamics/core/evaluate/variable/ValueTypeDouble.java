@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagDouble;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,16 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         return ValueDouble.of(Double.parseDouble(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueDouble value) {
+        return new NBTTagDouble(value.getRawValue());
+    }
+
+    @Override
+    public ValueDouble deserializeNbt(NBTBase tag) {
+        return ValueDouble.of(((NBTPrimitive) tag).getDouble());
+    }
+
     @Override
     public boolean isZero(ValueDouble a) {
         return a.getRawValue() == 0D;
@@ -108,6 +121,8 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
     @ToString
     public static class ValueDouble extends ValueBase {
 
+        private static final SmallNumberValueCache<ValueDouble> CACHE = new SmallNumberValueCache<>(value -> new ValueDouble(value));
+
         private final double value;
 
         private ValueDouble(double value) {
@@ -116,6 +131,12 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         }
 
         public static ValueDouble of(double value) {
+            // Only whole numbers are cached, excluding -0.0 which must remain distinguishable.
+            int intValue = (int) value;
+            if (intValue == value && SmallNumberValueCache.contains(intValue)
+                    && (intValue != 0 || Double.doubleToRawLongBits(value) == 0L)) {
+                return CACHE.get(intValue);
+            }
             return new ValueDouble(value);
         }
 
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagInt;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -36,6 +39,16 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         return ValueInteger.of(Integer.parseInt(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueInteger value) {
+        return new NBTTagInt(value.getRawValue());
+    }
+
+    @Override
+    public ValueInteger deserializeNbt(NBTBase tag) {
+        return ValueInteger.of(((NBTPrimitive) tag).getInt());
+    }
+
     @Override
     public boolean isZero(ValueInteger a) {
         return a.getRawValue() == 0;
@@ -109,6 +122,8 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
     @ToString
     public static class ValueInteger extends ValueBase {
 
+        private static final SmallNumberValueCache<ValueInteger> CACHE = new SmallNumberValueCache<>(ValueInteger::new);
+
         private final int value;
 
         private ValueInteger(int value) {
@@ -117,6 +132,9 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         }
 
         public static ValueInteger of(int value) {
+            if (SmallNumberValueCache.contains(value)) {
+                return CACHE.get(value);
+            }
             return new ValueInteger(value);
         }
 
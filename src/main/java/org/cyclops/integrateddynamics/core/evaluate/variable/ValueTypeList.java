@@ -5,6 +5,8 @@ import com.google.common.collect.Lists;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.JsonUtils;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
@@ -15,6 +17,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
 import org.cyclops.integrateddynamics.core.logicprogrammer.ValueTypeLPElementBase;
 import org.cyclops.integrateddynamics.core.logicprogrammer.ValueTypeListLPElement;
 
@@ -76,6 +79,27 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
         return getDefault();
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueList value) {
+        try {
+            return ValueTypeListProxyFactories.REGISTRY.serializeNbt(value.getRawValue());
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return new NBTTagString("");
+    }
+
+    @Override
+    public ValueList deserializeNbt(NBTBase tag) {
+        try {
+            IValueTypeListProxy<IValueType<IValue>, IValue> proxy = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(tag);
+            return ValueList.ofFactory(proxy);
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return getDefault();
+    }
+
     @Override
     public ValueList materialize(ValueList value) throws EvaluationException {
         IValueTypeListProxy<IValueType<IValue>, IValue> list = value.getRawValue();
@@ -146,7 +170,9 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
     public static class ListFactoryIterator<T extends IValueType<V>, V extends IValue> implements Iterator<V> {
 
         private final IValueTypeListProxy<T, V> value;
+        private final EvaluationWatchdog watchdog = EvaluationWatchdog.get();
         private int index = 0;
+        private int length = -1;
 
         public ListFactoryIterator(IValueTypeListProxy<T, V> value) {
             this.value = value;
@@ -154,15 +180,20 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
 
         @Override
         public boolean hasNext() {
-            try {
-                return index < value.getLength();
-            } catch (EvaluationException e) {
-                return false;
+            // The length is only determined once, as it may be expensive for positioned lists.
+            if (length < 0) {
+                try {
+                    length = value.getLength();
+                } catch (EvaluationException e) {
+                    return false;
+                }
             }
+            return index < length;
         }
 
         @Override
         public V next() {
+            watchdog.checkElement();
             try {
                 return value.get(index++);
             } catch (EvaluationException e) {
@@ -0,0 +1,148 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A hash index of the elements of an immutable list, for cheap repeated membership queries.
+ *
+ * The index is calculated lazily and is only used for value types of which the hash code is consistent with equality,
+ * lists of other value types are scanned linearly.
+ * @param <V> The value type.
+ */
+public class ValueTypeListIndex<V extends IValue> {
+
+    private final IValueType<V> valueType;
+    private final Iterable<V> elements;
+
+    private Object2IntMap<V> elementCounts = null;
+    private List<V> uniqueElements = null;
+
+    public ValueTypeListIndex(IValueType<V> valueType, Iterable<V> elements) {
+        this.valueType = valueType;
+        this.elements = elements;
+    }
+
+    /**
+     * @param list A list proxy.
+     * @param <V> The value type.
+     * @return The index of the given list, or null if the list is not immutable.
+     */
+    @Nullable
+    public static <V extends IValue> ValueTypeListIndex<V> of(IValueTypeListProxy<?, V> list) {
+        if (list instanceof ValueTypeListProxyMaterialized) {
+            return ((ValueTypeListProxyMaterialized<?, V>) list).getIndex();
+        }
+        if (list instanceof ValueTypeListProxyPersistent) {
+            return ((ValueTypeListProxyPersistent<?, V>) list).getIndex();
+        }
+        return null;
+    }
+
+    /**
+     * @param valueType A value type.
+     * @return If values of the given type that are equal always have the same hash code.
+     */
+    public static boolean hasConsistentHashCodes(IValueType<?> valueType) {
+        return valueType == ValueTypes.BOOLEAN
+                || valueType == ValueTypes.INTEGER
+                || valueType == ValueTypes.LONG
+                || valueType == ValueTypes.DOUBLE
+                || valueType == ValueTypes.STRING
+                || valueType == ValueTypes.NBT
+                || valueType == ValueTypes.OBJECT_BLOCK
+                || valueType == ValueTypes.OBJECT_ITEMSTACK
+                || valueType == ValueTypes.OBJECT_FLUIDSTACK;
+    }
+
+    /**
+     * @param list An immutable list proxy.
+     * @param obj Another object.
+     * @return If the given list and object can not be equal because they are both indexable lists with different hash codes.
+     */
+    public static boolean haveDifferentHashCodes(IValueTypeListProxy<?, ?> list, Object obj) {
+        if (!(obj instanceof IValueTypeListProxy)) {
+            return false;
+        }
+        ValueTypeListIndex<?> index = of(list);
+        ValueTypeListIndex<?> otherIndex = of((IValueTypeListProxy<?, ?>) obj);
+        // Lists with different hash codes can only be equal if the hash codes of their elements are inconsistent.
+        return index != null && otherIndex != null && index.isIndexable() && otherIndex.isIndexable()
+                && list.hashCode() != obj.hashCode();
+    }
+
+    /**
+     * @return If the elements of this list can be looked up by hash code.
+     */
+    public boolean isIndexable() {
+        return hasConsistentHashCodes(valueType);
+    }
+
+    /**
+     * @return A mapping from all unique elements to their number of occurrences, in first-occurrence order.
+     */
+    protected synchronized Object2IntMap<V> getElementCounts() {
+        if (elementCounts == null) {
+            Object2IntLinkedOpenHashMap<V> counts = new Object2IntLinkedOpenHashMap<>();
+            counts.defaultReturnValue(0);
+            for (V value : elements) {
+                counts.addTo(value, 1);
+            }
+            elementCounts = counts;
+        }
+        return elementCounts;
+    }
+
+    /**
+     * @param value A value.
+     * @return If the list contains an element that equals the given value.
+     */
+    public boolean contains(IValue value) {
+        if (isIndexable()) {
+            return getElementCounts().containsKey(value);
+        }
+        for (V element : elements) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param value A value.
+     * @return The number of elements that equal the given value.
+     */
+    public int count(IValue value) {
+        if (isIndexable()) {
+            return getElementCounts().getInt(value);
+        }
+        int count = 0;
+        for (V element : elements) {
+            if (element.equals(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The unique elements of this list, in first-occurrence order.
+     */
+    public synchronized List<V> getUniqueElements() {
+        if (uniqueElements == null) {
+            uniqueElements = isIndexable() ? Lists.newArrayList(getElementCounts().keySet())
+                    : Lists.newArrayList(Sets.newLinkedHashSet(elements));
+        }
+        return uniqueElements;
+    }
+
+}
@@ -49,15 +49,15 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
         @Override
         protected void serializeNbt(ValueTypeListProxyAppend<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             tag.setString("valueType", value.value.getType().getTranslationKey());
-            tag.setString("value", ValueHelpers.serializeRaw(value.value));
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.list));
+            tag.setTag("value", value.value.getType().serializeNbt(value.value));
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeNbt(value.list));
         }
 
         @Override
         protected ValueTypeListProxyAppend<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-            IValue value = ValueHelpers.deserializeRaw(valueType, tag.getString("value"));
-            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserialize(tag.getString("sublist"));
+            IValue value = ValueHelpers.deserializeNbt(valueType, tag.getTag("value"));
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(tag.getTag("sublist"));
             return new ValueTypeListProxyAppend<>(list, value);
         }
     }
@@ -2,8 +2,6 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.nbt.NBTTagString;
-import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -56,17 +54,18 @@ public class ValueTypeListProxyConcat<T extends IValueType<V>, V extends IValue>
         protected void serializeNbt(ValueTypeListProxyConcat<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             NBTTagList list = new NBTTagList();
             for (IValueTypeListProxy<IValueType<IValue>, IValue> listProxy : value.lists) {
-                list.appendTag(new NBTTagString(ValueTypeListProxyFactories.REGISTRY.serialize(listProxy)));
+                list.appendTag(ValueTypeListProxyFactories.REGISTRY.serializeNbt(listProxy));
             }
             tag.setTag("sublists", list);
         }
 
         @Override
         protected ValueTypeListProxyConcat<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            NBTTagList list = tag.getTagList("sublists", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+            // Sublists are stored as compound tags, or as string tags when they were stored in the string format.
+            NBTTagList list = (NBTTagList) tag.getTag("sublists");
             IValueTypeListProxy<IValueType<IValue>, IValue>[] listProxies = new IValueTypeListProxy[list.tagCount()];
             for (int i = 0; i < list.tagCount(); i++) {
-                listProxies[i] = ValueTypeListProxyFactories.REGISTRY.deserialize(list.getStringTagAt(i));
+                listProxies[i] = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(list.get(i));
             }
             return new ValueTypeListProxyConcat<>(listProxies);
         }
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -72,4 +75,37 @@ public class ValueTypeListProxyFactoryTypeRegistry implements IValueTypeListProx
         }
         return factory.deserialize(actualValue);
     }
+
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> NBTBase serializeNbt(P proxy) throws SerializationException {
+        IProxyFactory<T, V, P> factory = getFactory(proxy.getName());
+        if(factory == null) {
+            throw new SerializationException(String.format("No serialization factory exists for the list proxy type name '%s'.", proxy.getName()));
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("proxyName", proxy.getName());
+        tag.setTag("value", factory.serializeNbt(proxy));
+        return tag;
+    }
+
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserializeNbt(NBTBase tag) throws SerializationException {
+        if(tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        if(!(tag instanceof NBTTagCompound)) {
+            throw new SerializationException(String.format("Could not deserialize the serialized list proxy tag '%s'.", tag));
+        }
+        NBTTagCompound compound = (NBTTagCompound) tag;
+        String name = compound.getString("proxyName");
+        IProxyFactory<T, V, P> factory = getFactory(name);
+        if(factory == null) {
+            throw new SerializationException(String.format("No deserialization factory exists for the list proxy type name '%s'.", name));
+        }
+        NBTBase valueTag = compound.getTag("value");
+        if(valueTag instanceof NBTTagString) {
+            return factory.deserialize(((NBTTagString) valueTag).getString());
+        }
+        return factory.deserializeNbt(valueTag);
+    }
 }
@@ -1,7 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -11,24 +10,37 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyF
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
  * A list that is built lazily from a start value and an operator.
+ *
+ * Elements are generated iteratively, so that accessing far elements does not overflow the stack.
+ * The element at every {@link #checkpointInterval}th index is remembered as a checkpoint to start generating from,
+ * and the chunk of {@link #CHUNK_SIZE} elements that was generated last is kept as well,
+ * so that sequential access only applies the operator once per element.
+ * To bound memory usage, every other checkpoint is dropped once {@link #MAX_CHECKPOINTS} is reached.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
 public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
-    private Cache<Integer, V> cache_values = CacheBuilder.newBuilder().expireAfterAccess(10, TimeUnit.SECONDS).maximumSize(100).build();
+    private static final int CHUNK_SIZE = 64;
+    private static final int MAX_CHECKPOINTS = 4096;
 
     private final V value;
     private final IOperator operator;
 
+    private final List<V> checkpoints = Lists.newArrayList();
+    private int checkpointInterval = CHUNK_SIZE;
+    private IValue[] chunk = null;
+    private int chunkStart = -1;
+
     public ValueTypeListProxyLazyBuilt(V value, IOperator operator) {
         super(ValueTypeListProxyFactories.LAZY_BUILT.getName(), (T) value.getType());
         this.value = value;
         this.operator = operator;
+        this.checkpoints.add(value);
     }
 
     @Override
@@ -37,18 +49,57 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
     }
 
     @Override
-    public V get(int index) throws EvaluationException {
+    public synchronized V get(int index) throws EvaluationException {
+        if (index < 0) {
+            return null;
+        }
         if (index == 0) {
             return value;
         }
-        V current = cache_values.getIfPresent(index);
-        if (current != null) {
-            return current;
+        if (chunk != null && index >= chunkStart && index < chunkStart + CHUNK_SIZE) {
+            return (V) chunk[index - chunkStart];
+        }
+
+        // Start from the closest known element before the requested index.
+        int checkpoint = Math.min(index / checkpointInterval, checkpoints.size() - 1);
+        int position = checkpoint * checkpointInterval;
+        V current = checkpoints.get(checkpoint);
+        if (chunk != null && chunkStart <= index && chunkStart + CHUNK_SIZE - 1 > position) {
+            position = chunkStart + CHUNK_SIZE - 1;
+            current = (V) chunk[CHUNK_SIZE - 1];
+        }
+
+        // Generate up to the end of the chunk that contains the requested index.
+        int newChunkStart = index - index % CHUNK_SIZE;
+        IValue[] newChunk = new IValue[CHUNK_SIZE];
+        if (position >= newChunkStart) {
+            newChunk[position - newChunkStart] = current;
+        }
+        while (position < newChunkStart + CHUNK_SIZE - 1) {
+            current = (V) operator.evaluate(new IVariable[]{new Variable(current.getType(), current)});
+            position++;
+            if (position % checkpointInterval == 0 && position / checkpointInterval == checkpoints.size()) {
+                addCheckpoint(current);
+            }
+            if (position >= newChunkStart) {
+                newChunk[position - newChunkStart] = current;
+            }
+        }
+        chunk = newChunk;
+        chunkStart = newChunkStart;
+        return (V) chunk[index - chunkStart];
+    }
+
+    protected void addCheckpoint(V value) {
+        checkpoints.add(value);
+        if (checkpoints.size() >= MAX_CHECKPOINTS) {
+            // Only keep the checkpoints at even positions, and double the interval.
+            for (int i = 0; i < checkpoints.size() / 2; i++) {
+                checkpoints.set(i, checkpoints.get(i * 2));
+            }
+            checkpoints.subList(checkpoints.size() - checkpoints.size() / 2, checkpoints.size()).clear();
+            checkpointInterval *= 2;
         }
-        V previous = get(index - 1);
-        current = (V) operator.evaluate(new IVariable[]{new Variable(previous.getType(), previous)});
-        cache_values.put(index, current);
-        return current;
     }
 
     @Override
@@ -66,14 +117,14 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
         @Override
         protected void serializeNbt(ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             tag.setString("valueType", value.value.getType().getTranslationKey());
-            tag.setString("value", ValueHelpers.serializeRaw(value.value));
+            tag.setTag("value", value.value.getType().serializeNbt(value.value));
             tag.setString("operator", Operators.REGISTRY.serialize(value.operator));
         }
 
         @Override
         protected ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
             IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-            IValue value = ValueHelpers.deserializeRaw(valueType, tag.getString("value"));
+            IValue value = ValueHelpers.deserializeNbt(valueType, tag.getTag("value"));
             IOperator operator = Operators.REGISTRY.deserialize(tag.getString("operator"));
             return new ValueTypeListProxyLazyBuilt<>(value, operator);
         }
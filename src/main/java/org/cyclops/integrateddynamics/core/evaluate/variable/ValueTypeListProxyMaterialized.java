@@ -8,6 +8,9 @@ import java.util.List;
 
 /**
  * A list proxy for a list that is fully materialized already.
+ *
+ * Since the contained list is never modified, a hash index of its elements and its hash code
+ * are calculated lazily and cached, so that repeated membership queries are cheap.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
@@ -15,6 +18,10 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
 
     private final List<V> list;
 
+    private ValueTypeListIndex<V> index = null;
+    private boolean hashCodeCalculated = false;
+    private int hashCode;
+
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
         this.list = list;
@@ -29,4 +36,35 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    /**
+     * @return The contained list, which must not be modified.
+     */
+    public List<V> getList() {
+        return list;
+    }
+
+    /**
+     * @return The index of the elements of this list.
+     */
+    public synchronized ValueTypeListIndex<V> getIndex() {
+        if (index == null) {
+            index = new ValueTypeListIndex<>(getValueType(), list);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return !ValueTypeListIndex.haveDifferentHashCodes(this, obj) && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        if (!hashCodeCalculated) {
+            hashCode = super.hashCode();
+            hashCodeCalculated = true;
+        }
+        return hashCode;
+    }
 }
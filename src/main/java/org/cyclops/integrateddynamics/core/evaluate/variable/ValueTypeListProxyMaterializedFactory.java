@@ -1,16 +1,22 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 
 /**
  * Factory for {@link ValueTypeListProxyMaterialized}.
+ * Other finite list proxies can be serialized by this factory as well, they will be deserialized as materialized lists.
  * @author rubensworks
  */
-public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyMaterialized<IValueType<IValue>, IValue>> {
+public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, IValueTypeListProxy<IValueType<IValue>, IValue>> {
 
     private static final String ELEMENT_DELIMITER = ";";
     private static final String ELEMENT_DELIMITER_SPLITREGEX = "(?<!\\\\);";
@@ -22,7 +28,7 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
     }
 
     @Override
-    public String serialize(ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+    public String serialize(IValueTypeListProxy<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         StringBuilder sb = new StringBuilder();
         IValueType<IValue> valueType = values.getValueType();
         boolean heterogeneous = false;
@@ -76,4 +82,58 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
 
         return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
     }
+
+    @Override
+    public NBTBase serializeNbt(IValueTypeListProxy<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueType<IValue> valueType = values.getValueType();
+        boolean heterogeneous = valueType.isCategory();
+        NBTTagList list = new NBTTagList();
+        for (IValue value : values) {
+            NBTBase valueTag = value.getType().serializeNbt(value);
+            if (heterogeneous) {
+                NBTTagCompound elementTag = new NBTTagCompound();
+                elementTag.setString("valueType", value.getType().getTranslationKey());
+                elementTag.setTag("value", valueTag);
+                valueTag = elementTag;
+            }
+            if (list.getTagType() != 0 && list.getTagType() != valueTag.getId()) {
+                // NBT lists can only contain tags of a single type, so fallback to the string format.
+                return new NBTTagString(serialize(values));
+            }
+            list.appendTag(valueTag);
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("valueType", valueType.getTranslationKey());
+        tag.setTag("values", list);
+        return tag;
+    }
+
+    @Override
+    public ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> deserializeNbt(NBTBase tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        NBTTagCompound compound = (NBTTagCompound) tag;
+        String valueTypeName = compound.getString("valueType");
+        IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(valueTypeName);
+        if (valueType == null) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value because the value type by name '%s' was not found.", valueTypeName));
+        }
+        boolean heterogeneous = valueType.isCategory();
+        NBTTagList list = (NBTTagList) compound.getTag("values");
+
+        ImmutableList.Builder<IValue> builder = ImmutableList.builder();
+        for (int i = 0; i < list.tagCount(); i++) {
+            NBTBase valueTag = list.get(i);
+            IValueType<IValue> elementValueType = valueType;
+            if (heterogeneous) {
+                NBTTagCompound elementTag = (NBTTagCompound) valueTag;
+                elementValueType = ValueTypes.REGISTRY.getValueType(elementTag.getString("valueType"));
+                if (elementValueType == null) {
+                    throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value because the value type by name '%s' was not found.", elementTag.getString("valueType")));
+                }
+                valueTag = elementTag.getTag("value");
+            }
+            builder.add(ValueHelpers.deserializeNbt(elementValueType, valueTag));
+        }
+
+        return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
+    }
 }
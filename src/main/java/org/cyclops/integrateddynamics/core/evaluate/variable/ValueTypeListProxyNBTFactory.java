@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
@@ -46,20 +47,34 @@ public class ValueTypeListProxyNBTFactory<T extends IValueType<V>, V extends IVa
 
     @Override
     public String serialize(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-        NBTTagCompound tag = new NBTTagCompound();
-        values.writeGeneratedFieldsToNBT(tag);
-        return tag.toString();
+        return serializeNbt(values).toString();
     }
 
     @Override
     public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
     	value = ValueHelpers.uncompressSlashes(value);
+        try {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            e.printStackTrace();
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        NBTTagCompound tag = new NBTTagCompound();
+        values.writeGeneratedFieldsToNBT(tag);
+        return tag;
+    }
+
+    @Override
+    public P deserializeNbt(NBTBase tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         try {
             P proxy = this.proxyClassConstructor.newInstance();
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            proxy.readGeneratedFieldsFromNBT(tag);
+            proxy.readGeneratedFieldsFromNBT((NBTTagCompound) tag);
             return proxy;
-        } catch (InvocationTargetException | InstantiationException | NBTException | IllegalAccessException e) {
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
             e.printStackTrace();
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
         }
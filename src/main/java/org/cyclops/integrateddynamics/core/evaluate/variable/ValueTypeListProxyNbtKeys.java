@@ -1,9 +1,13 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+
+import java.util.Iterator;
 
 /**
  * A list of NBT keys.
@@ -30,6 +34,16 @@ public class ValueTypeListProxyNbtKeys extends ValueTypeListProxyBase<ValueTypeS
         return null;
     }
 
+    @Override
+    public Iterator<ValueTypeString.ValueString> iterator() {
+        // Iterate over the keys directly, because retrieving a key by index requires iterating all previous ones.
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return Iterators.transform(tag.getKeySet().iterator(), key -> {
+            watchdog.checkElement();
+            return ValueTypeString.ValueString.of(key);
+        });
+    }
+
     public static class Factory extends ValueTypeListProxyNBTFactorySimple<ValueTypeString, ValueTypeString.ValueString, ValueTypeListProxyNbtKeys> {
 
         @Override
@@ -6,7 +6,11 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 /**
@@ -50,6 +54,36 @@ public abstract class ValueTypeListProxyNbtValueListGeneric<N extends NBTBase, T
         return null;
     }
 
+    @Override
+    public Iterator<V> iterator() {
+        // Resolve the tag only once, instead of for every element.
+        N value;
+        try {
+            value = Optional.ofNullable((N) tag.getTag(key)).orElse(getDefault());
+        } catch (ClassCastException e) {
+            return Collections.emptyIterator();
+        }
+        int length = getLength(value);
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return new Iterator<V>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                watchdog.checkElement();
+                return get(value, index++);
+            }
+        };
+    }
+
     protected abstract int getLength(N tag);
     protected abstract V get(N tag, int index);
     protected abstract N getDefault();
@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A list proxy for the elements of a list that match a predicate.
+ *
+ * Iterating over this list streams over the underlying list, so that the predicate is only applied to the elements
+ * that are actually consumed.
+ * Indexed access and the list length require the full filtered list, which is then computed once.
+ */
+public class ValueTypeListProxyOperatorFiltered<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    private final IOperator predicate;
+    private final IValueTypeListProxy<T, V> listProxy;
+
+    private List<V> filteredValues = null;
+
+    public ValueTypeListProxyOperatorFiltered(IOperator predicate, IValueTypeListProxy<T, V> listProxy) {
+        super(ValueTypeListProxyFactories.MATERIALIZED.getName(), listProxy.getValueType());
+        this.predicate = predicate;
+        this.listProxy = listProxy;
+    }
+
+    protected boolean test(V value) throws EvaluationException {
+        IValue result = ValueHelpers.evaluateOperator(predicate, value);
+        ValueHelpers.validatePredicateOutput(predicate, result);
+        return ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+    }
+
+    protected synchronized List<V> getFilteredValues() throws EvaluationException {
+        if (filteredValues == null) {
+            List<V> values = Lists.newArrayList();
+            for (V value : listProxy) {
+                if (test(value)) {
+                    values.add(value);
+                }
+            }
+            filteredValues = Collections.unmodifiableList(values);
+        }
+        return filteredValues;
+    }
+
+    protected synchronized void storeFilteredValues(List<V> values) {
+        if (filteredValues == null) {
+            filteredValues = Collections.unmodifiableList(values);
+        }
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        return getFilteredValues().size();
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        return getFilteredValues().get(index);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        synchronized (this) {
+            if (filteredValues != null) {
+                return filteredValues.iterator();
+            }
+        }
+        Iterator<V> it = listProxy.iterator();
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return new Iterator<V>() {
+            private final List<V> values = Lists.newArrayList();
+            private boolean failed = false;
+            private V next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && it.hasNext()) {
+                    V value = it.next();
+                    watchdog.checkElement();
+                    try {
+                        if (test(value)) {
+                            next = value;
+                        }
+                    } catch (EvaluationException e) {
+                        // Iterators can not throw checked exceptions, so invalid elements are skipped,
+                        // similar to ValueTypeListProxyOperatorMapped.
+                        e.printStackTrace();
+                        failed = true;
+                    }
+                }
+                if (next == null && !failed) {
+                    // The underlying list has been fully consumed, so later calls can reuse the result.
+                    storeFilteredValues(values);
+                }
+                return next != null;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V value = next;
+                values.add(value);
+                next = null;
+                return value;
+            }
+        };
+    }
+}
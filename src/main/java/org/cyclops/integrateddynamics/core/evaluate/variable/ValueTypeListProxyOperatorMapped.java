@@ -1,19 +1,32 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+
+import java.util.BitSet;
+import java.util.Iterator;
 
 /**
  * A list proxy for a list that is mapped to another list by an operator.
+ *
+ * Mapped elements are memoized, so that the operator is applied at most once per element during the lifetime
+ * of this proxy.
+ * Lists that are longer than {@link GeneralConfig#mappedListCacheLimit} are not memoized.
  */
 public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
 
     private final IOperator operator;
     private final IValueTypeListProxy listProxy;
 
+    private boolean cacheInitialized = false;
+    private IValue[] cachedValues = null;
+    private BitSet computedValues = null;
+
     public ValueTypeListProxyOperatorMapped(IOperator operator, IValueTypeListProxy listProxy) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), operator.getInputTypes().length == 1 ? operator.getOutputType() : (IValueType) ValueTypes.OPERATOR);
         this.operator = operator;
@@ -27,7 +40,92 @@ public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IVa
 
     @Override
     public IValue get(int index) throws EvaluationException {
+        synchronized (this) {
+            initializeCache();
+            if (cachedValues != null && index >= 0 && index < cachedValues.length && computedValues.get(index)) {
+                return cachedValues[index];
+            }
+        }
+        // Evaluate outside of the lock, so that other readers are not blocked by the operator.
+        IValue value = computeValue(index);
+        storeComputedValue(index, value);
+        return value;
+    }
+
+    protected IValue computeValue(int index) throws EvaluationException {
         IValue value = listProxy.get(index);
         return ValueHelpers.evaluateOperator(operator, value);
     }
+
+    /**
+     * Map the given element of the underlying list, or reuse its memoized value.
+     * @param index The element index.
+     * @param value The element of the underlying list at the given index.
+     * @return The mapped value.
+     * @throws EvaluationException If evaluation failed.
+     */
+    protected IValue getMapped(int index, IValue value) throws EvaluationException {
+        synchronized (this) {
+            initializeCache();
+            if (cachedValues != null && index < cachedValues.length && computedValues.get(index)) {
+                return cachedValues[index];
+            }
+        }
+        IValue mapped = ValueHelpers.evaluateOperator(operator, value);
+        storeComputedValue(index, mapped);
+        return mapped;
+    }
+
+    protected synchronized void storeComputedValue(int index, IValue value) {
+        if (cachedValues != null && index >= 0 && index < cachedValues.length && !computedValues.get(index)) {
+            cachedValues[index] = value;
+            computedValues.set(index);
+        }
+    }
+
+    @Override
+    public Iterator<IValue> iterator() {
+        // Stream over the underlying list, as its iterator may be cheaper than indexed access.
+        Iterator<IValue> it = listProxy.iterator();
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return new Iterator<IValue>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public IValue next() {
+                IValue value = it.next();
+                watchdog.checkElement();
+                try {
+                    return getMapped(index++, value);
+                } catch (EvaluationException e) {
+                    e.printStackTrace();
+                    return getValueType().getDefault();
+                }
+            }
+        };
+    }
+
+    /**
+     * Allocate the memoization buffers once the list length is known.
+     * If the list is infinite or exceeds the cache limit, no buffers are allocated.
+     * If the length could not be determined, this will be retried on the next call.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    protected void initializeCache() throws EvaluationException {
+        if (!cacheInitialized) {
+            if (!listProxy.isInfinite()) {
+                int length = listProxy.getLength();
+                if (length <= GeneralConfig.mappedListCacheLimit) {
+                    cachedValues = new IValue[length];
+                    computedValues = new BitSet(length);
+                }
+            }
+            cacheInitialized = true;
+        }
+    }
 }
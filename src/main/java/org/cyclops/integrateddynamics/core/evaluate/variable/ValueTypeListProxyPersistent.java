@@ -0,0 +1,327 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list with structural sharing, used for appending, concatenating and slicing finite lists.
+ *
+ * The elements are stored in a height-balanced tree of chunks.
+ * Chunks are views on existing lists, so that materialized lists can be wrapped without copying.
+ * This allows indexed access, appending, concatenating and slicing in logarithmic time,
+ * instead of building ever deeper chains of list wrappers.
+ * Like materialized lists, a hash index of the elements and the hash code are calculated lazily and cached.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public class ValueTypeListProxyPersistent<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    /**
+     * Chunks that are smaller than this size are merged when joined.
+     */
+    private static final int CHUNK_SIZE = 32;
+
+    private final Node<V> root;
+
+    private ValueTypeListIndex<V> index = null;
+    private boolean hashCodeCalculated = false;
+    private int hashCode;
+
+    protected ValueTypeListProxyPersistent(T valueType, Node<V> root) {
+        super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
+        this.root = root;
+    }
+
+    /**
+     * @param list A list proxy.
+     * @return If the given list can be converted to a persistent list without evaluating its elements.
+     */
+    public static boolean canWrap(IValueTypeListProxy<?, ?> list) {
+        return list instanceof ValueTypeListProxyPersistent || list instanceof ValueTypeListProxyMaterialized;
+    }
+
+    /**
+     * Convert the given list to a persistent list.
+     * @param list A list proxy for which {@link #canWrap(IValueTypeListProxy)} holds.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return A persistent list with the same elements.
+     */
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxyPersistent<T, V> wrap(IValueTypeListProxy<T, V> list) {
+        if (list instanceof ValueTypeListProxyPersistent) {
+            return (ValueTypeListProxyPersistent<T, V>) list;
+        }
+        if (list instanceof ValueTypeListProxyMaterialized) {
+            return ofList(list.getValueType(), ((ValueTypeListProxyMaterialized<T, V>) list).getList());
+        }
+        return ofList(list.getValueType(), Lists.newArrayList(list));
+    }
+
+    /**
+     * @param valueType The value type.
+     * @param values The list elements, which must not be modified afterwards.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return A persistent list with the given elements.
+     */
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxyPersistent<T, V> ofList(T valueType, List<V> values) {
+        return new ValueTypeListProxyPersistent<>(valueType, new Leaf<>(values, 0, values.size()));
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        return root.size;
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        if (index < 0 || index >= root.size) {
+            return null;
+        }
+        return root.get(index);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new NodeIterator<>(root);
+    }
+
+    /**
+     * @return The index of the elements of this list.
+     */
+    public synchronized ValueTypeListIndex<V> getIndex() {
+        if (index == null) {
+            index = new ValueTypeListIndex<>(getValueType(), this);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return !ValueTypeListIndex.haveDifferentHashCodes(this, obj) && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        if (!hashCodeCalculated) {
+            hashCode = super.hashCode();
+            hashCodeCalculated = true;
+        }
+        return hashCode;
+    }
+
+    /**
+     * @param value The value to append.
+     * @return A new list with the given value appended.
+     */
+    public ValueTypeListProxyPersistent<T, V> append(V value) {
+        return new ValueTypeListProxyPersistent<>(getValueType(), join(root, new Leaf<>(Collections.singletonList(value), 0, 1)));
+    }
+
+    /**
+     * @param other The list to append.
+     * @return A new list with the elements of the given list appended.
+     */
+    public ValueTypeListProxyPersistent<T, V> concat(ValueTypeListProxyPersistent<T, V> other) {
+        return new ValueTypeListProxyPersistent<>(getValueType(), join(root, other.root));
+    }
+
+    /**
+     * @param from The start index (inclusive).
+     * @param to The end index (exclusive), which may be larger than the list length.
+     * @return A new list with the elements in the given range.
+     */
+    public ValueTypeListProxyPersistent<T, V> slice(int from, int to) {
+        to = Math.min(to, root.size);
+        if (from >= to) {
+            return new ValueTypeListProxyPersistent<>(getValueType(), new Leaf<>(Collections.emptyList(), 0, 0));
+        }
+        return new ValueTypeListProxyPersistent<>(getValueType(), slice(root, from, to));
+    }
+
+    protected static <V> Node<V> join(Node<V> a, Node<V> b) {
+        if (a.size == 0) {
+            return b;
+        }
+        if (b.size == 0) {
+            return a;
+        }
+        if (a instanceof Leaf && b instanceof Leaf && a.size + b.size <= CHUNK_SIZE) {
+            List<V> values = Lists.newArrayListWithCapacity(a.size + b.size);
+            ((Leaf<V>) a).addTo(values);
+            ((Leaf<V>) b).addTo(values);
+            return new Leaf<>(values, 0, values.size());
+        }
+        if (a.depth > b.depth + 1) {
+            Branch<V> branch = (Branch<V>) a;
+            return balance(branch.left, join(branch.right, b));
+        }
+        if (b.depth > a.depth + 1) {
+            Branch<V> branch = (Branch<V>) b;
+            return balance(join(a, branch.left), branch.right);
+        }
+        return new Branch<>(a, b);
+    }
+
+    protected static <V> Node<V> balance(Node<V> left, Node<V> right) {
+        if (left.depth > right.depth + 1) {
+            Branch<V> l = (Branch<V>) left;
+            if (l.left.depth >= l.right.depth) {
+                return new Branch<>(l.left, new Branch<>(l.right, right));
+            }
+            Branch<V> lr = (Branch<V>) l.right;
+            return new Branch<>(new Branch<>(l.left, lr.left), new Branch<>(lr.right, right));
+        }
+        if (right.depth > left.depth + 1) {
+            Branch<V> r = (Branch<V>) right;
+            if (r.right.depth >= r.left.depth) {
+                return new Branch<>(new Branch<>(left, r.left), r.right);
+            }
+            Branch<V> rl = (Branch<V>) r.left;
+            return new Branch<>(new Branch<>(left, rl.left), new Branch<>(rl.right, r.right));
+        }
+        return new Branch<>(left, right);
+    }
+
+    protected static <V> Node<V> slice(Node<V> node, int from, int to) {
+        if (from == 0 && to == node.size) {
+            return node;
+        }
+        if (node instanceof Leaf) {
+            Leaf<V> leaf = (Leaf<V>) node;
+            return new Leaf<>(leaf.values, leaf.offset + from, to - from);
+        }
+        Branch<V> branch = (Branch<V>) node;
+        int leftSize = branch.left.size;
+        if (to <= leftSize) {
+            return slice(branch.left, from, to);
+        }
+        if (from >= leftSize) {
+            return slice(branch.right, from - leftSize, to - leftSize);
+        }
+        return join(slice(branch.left, from, leftSize), slice(branch.right, 0, to - leftSize));
+    }
+
+    protected static abstract class Node<V> {
+
+        protected final int size;
+        protected final int depth;
+
+        protected Node(int size, int depth) {
+            this.size = size;
+            this.depth = depth;
+        }
+
+        protected abstract V get(int index);
+
+    }
+
+    protected static class Leaf<V> extends Node<V> {
+
+        private final List<V> values;
+        private final int offset;
+
+        protected Leaf(List<V> values, int offset, int size) {
+            super(size, 0);
+            this.values = values;
+            this.offset = offset;
+        }
+
+        @Override
+        protected V get(int index) {
+            return values.get(offset + index);
+        }
+
+        protected void addTo(List<V> target) {
+            target.addAll(values.subList(offset, offset + size));
+        }
+
+    }
+
+    protected static class Branch<V> extends Node<V> {
+
+        private final Node<V> left;
+        private final Node<V> right;
+
+        protected Branch(Node<V> left, Node<V> right) {
+            super(left.size + right.size, Math.max(left.depth, right.depth) + 1);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected V get(int index) {
+            Node<V> node = this;
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                if (index < branch.left.size) {
+                    node = branch.left;
+                } else {
+                    index -= branch.left.size;
+                    node = branch.right;
+                }
+            }
+            return node.get(index);
+        }
+
+    }
+
+    /**
+     * Iterates over all leaves from left to right.
+     * @param <V> The value type.
+     */
+    protected static class NodeIterator<V> implements Iterator<V> {
+
+        private final Deque<Node<V>> pending = new ArrayDeque<>();
+        private final EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        private Leaf<V> leaf = null;
+        private int index = 0;
+
+        protected NodeIterator(Node<V> root) {
+            pending.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (leaf == null || index >= leaf.size) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                Node<V> node = pending.pop();
+                while (node instanceof Branch) {
+                    pending.push(((Branch<V>) node).right);
+                    node = ((Branch<V>) node).left;
+                }
+                leaf = (Leaf<V>) node;
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            watchdog.checkElement();
+            return leaf.get(index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+    }
+}
@@ -1,11 +1,11 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.util.EnumFacing;
-import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+import org.cyclops.integrateddynamics.core.part.aspect.TargetSnapshots;
 
 import java.util.Iterator;
 
@@ -23,7 +23,8 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
     }
 
     protected IItemHandler getInventory() {
-        return TileHelpers.getCapability(getPos(), getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+        TargetSnapshots.InventorySnapshot inventory = TargetSnapshots.getInventory(getPos(), getSide());
+        return inventory != null ? inventory.getItemHandler() : null;
     }
 
     @Override
@@ -51,6 +52,7 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
     public static class ListFactoryIterator implements Iterator<ValueObjectTypeItemStack.ValueItemStack> {
 
         private final IItemHandler itemHandler;
+        private final EvaluationWatchdog watchdog = EvaluationWatchdog.get();
         private int index = 0;
 
         public ListFactoryIterator(IItemHandler itemHandler) {
@@ -64,6 +66,7 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
 
         @Override
         public ValueObjectTypeItemStack.ValueItemStack next() {
+            watchdog.checkElement();
             return ValueObjectTypeItemStack.ValueItemStack.of(this.itemHandler.getStackInSlot(index++));
         }
 
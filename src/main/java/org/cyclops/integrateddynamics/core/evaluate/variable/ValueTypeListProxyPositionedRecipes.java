@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import net.minecraft.util.EnumFacing;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeDefinition;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
@@ -8,6 +9,10 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.integrateddynamics.Capabilities;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+
+import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * A list proxy for the recipes of a recipe handler at a certain position.
@@ -41,4 +46,18 @@ public class ValueTypeListProxyPositionedRecipes extends ValueTypeListProxyPosit
         IRecipeDefinition recipeDefinition = Iterables.get(getRecipeHandler().getRecipes(), index);
         return ValueObjectTypeRecipe.ValueRecipe.of(recipeDefinition);
     }
+
+    @Override
+    public Iterator<ValueObjectTypeRecipe.ValueRecipe> iterator() {
+        // Iterate over the recipes directly, because retrieving a recipe by index requires iterating all previous ones.
+        IRecipeHandler recipeHandler = getRecipeHandler();
+        if(recipeHandler == null) {
+            return Collections.emptyIterator();
+        }
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return Iterators.transform(recipeHandler.getRecipes().iterator(), recipe -> {
+            watchdog.checkElement();
+            return ValueObjectTypeRecipe.ValueRecipe.of(recipe);
+        });
+    }
 }
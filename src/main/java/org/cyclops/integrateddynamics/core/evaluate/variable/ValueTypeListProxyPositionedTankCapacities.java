@@ -1,12 +1,16 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Iterators;
 import net.minecraft.util.EnumFacing;
-import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+import org.cyclops.integrateddynamics.core.part.aspect.TargetSnapshots;
+
+import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * A list proxy for a tank's capacities at a certain position.
@@ -22,7 +26,8 @@ public class ValueTypeListProxyPositionedTankCapacities extends ValueTypeListPro
     }
 
     protected IFluidHandler getTank() {
-        return TileHelpers.getCapability(getPos(), getSide(), CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        TargetSnapshots.FluidSnapshot fluid = TargetSnapshots.getFluid(getPos(), getSide());
+        return fluid != null ? fluid.getFluidHandler() : null;
     }
 
     @Override
@@ -42,4 +47,19 @@ public class ValueTypeListProxyPositionedTankCapacities extends ValueTypeListPro
     public ValueTypeInteger.ValueInteger get(int index) {
         return ValueTypeInteger.ValueInteger.of(getTank().getTankProperties()[index].getCapacity());
     }
+
+    @Override
+    public Iterator<ValueTypeInteger.ValueInteger> iterator() {
+        // Retrieve the tank properties only once, instead of for every element.
+        IFluidHandler tank = getTank();
+        IFluidTankProperties[] tanks = tank != null ? tank.getTankProperties() : null;
+        if(tanks == null) {
+            return Collections.emptyIterator();
+        }
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        return Iterators.transform(Iterators.forArray(tanks), properties -> {
+            watchdog.checkElement();
+            return ValueTypeInteger.ValueInteger.of(properties.getCapacity());
+        });
+    }
 }
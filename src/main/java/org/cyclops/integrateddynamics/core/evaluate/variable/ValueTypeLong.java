@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagLong;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,16 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         return ValueLong.of(Long.parseLong(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueLong value) {
+        return new NBTTagLong(value.getRawValue());
+    }
+
+    @Override
+    public ValueLong deserializeNbt(NBTBase tag) {
+        return ValueLong.of(((NBTPrimitive) tag).getLong());
+    }
+
     @Override
     public boolean isZero(ValueLong a) {
         return a.getRawValue() == 0L;
@@ -108,6 +121,8 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
     @ToString
     public static class ValueLong extends ValueBase {
 
+        private static final SmallNumberValueCache<ValueLong> CACHE = new SmallNumberValueCache<>(value -> new ValueLong(value));
+
         private final long value;
 
         private ValueLong(long value) {
@@ -116,6 +131,9 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         }
 
         public static ValueLong of(long value) {
+            if (SmallNumberValueCache.contains(value)) {
+                return CACHE.get((int) value);
+            }
             return new ValueLong(value);
         }
 
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.collect.Sets;
 import lombok.ToString;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.text.TextFormatting;
@@ -52,6 +53,16 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
         }
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(ValueNbt value) {
+        return value.getRawValue().copy();
+    }
+
+    @Override
+    public ValueNbt deserializeNbt(NBTBase tag) {
+        return ValueNbt.of(((NBTTagCompound) tag).copy());
+    }
+
     @Override
     public boolean isNull(ValueNbt a) {
         return a.getRawValue().getSize() == 0;
@@ -82,14 +93,17 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
         return toCompactString(value);
     }
 
-    @ToString
+    @ToString(exclude = "hash")
     public static class ValueNbt extends ValueBase {
 
         private final NBTTagCompound value;
+        private int hash = 0;
 
         private ValueNbt(NBTTagCompound value) {
             super(ValueTypes.NBT);
-            this.value = ValueTypes.NBT.filterBlacklistedTags(value);
+            NBTTagCompound filteredValue = ValueTypes.NBT.filterBlacklistedTags(value);
+            // Copy the tag, as it may be a live tag that is modified afterwards, such as the tag of an item in an inventory slot.
+            this.value = filteredValue == value ? value.copy() : filteredValue;
         }
 
         public static ValueNbt of(@Nullable NBTTagCompound value) {
@@ -102,12 +116,20 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
 
         @Override
         public boolean equals(Object o) {
-            return o instanceof ValueNbt && ((ValueNbt) o).value.equals(this.value);
+            return o == this || (o instanceof ValueNbt
+                    && o.hashCode() == this.hashCode()
+                    && ((ValueNbt) o).value.equals(this.value));
         }
 
         @Override
         public int hashCode() {
-            return getType().hashCode() + value.hashCode();
+            // NBT values are immutable, so the hash of the tag tree only has to be calculated once.
+            int hash = this.hash;
+            if (hash == 0) {
+                hash = getType().hashCode() + value.hashCode();
+                this.hash = hash;
+            }
+            return hash;
         }
     }
 
@@ -101,21 +101,21 @@ public final class ValueTypeRegistry implements IValueTypeRegistry {
     @Override
     public IValueTypeVariableFacade getVariableFacade(int id, NBTTagCompound tag) {
         if(!tag.hasKey("typeName", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                || !tag.hasKey("value", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                || !tag.hasKey("value")) {
             return INVALID_FACADE;
         }
         IValueType type = getValueType(tag.getString("typeName"));
         if(type == null) {
             return INVALID_FACADE;
         }
-        IValue value = ValueHelpers.deserializeRaw(type, tag.getString("value"));
+        IValue value = ValueHelpers.deserializeNbt(type, tag.getTag("value"));
         return new ValueTypeVariableFacade(id, type, value);
     }
 
     @Override
     public void setVariableFacade(NBTTagCompound tag, IValueTypeVariableFacade variableFacade) {
         tag.setString("typeName", variableFacade.getValueType().getTranslationKey());
-        tag.setString("value", ValueHelpers.serializeRaw(variableFacade.getValue()));
+        tag.setTag("value", ValueHelpers.serializeNbt(variableFacade.getValue()));
     }
 
     @Override
@@ -95,5 +95,9 @@ public class L10NValues {
     public static final String OPERATOR_ERROR_WRONGINPUTLENGTHVIRTIUAL = "operator." + NS + ".error.wrong_input_length_virtual";
     // 0: limit, 1: operator
     public static final String OPERATOR_ERROR_RECURSIONLIMIT = "operator." + NS + ".error.operator_recursion_limit";
+    // 0: limit
+    public static final String OPERATOR_ERROR_TIMELIMIT = "operator." + NS + ".error.evaluation_time_limit";
+    // 0: limit
+    public static final String OPERATOR_ERROR_ELEMENTLIMIT = "operator." + NS + ".error.evaluation_element_limit";
 
 }
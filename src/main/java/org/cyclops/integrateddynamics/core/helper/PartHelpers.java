@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.helper;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import lombok.Data;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
@@ -17,20 +18,24 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.block.cable.ICableFakeable;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerConfig;
+import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.core.network.event.UnknownPartEvent;
 import org.cyclops.integrateddynamics.core.part.PartTypes;
 
 import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Helpers related to parts.
@@ -336,6 +341,26 @@ public class PartHelpers {
                 (double) blockPos.getZ() + 0.5D) <= 64.0D;
     }
 
+    /**
+     * Get the ids of the variables that are stored in the given part.
+     * @param network The network.
+     * @param partNetwork The part network.
+     * @param target The part target.
+     * @param partState The part state.
+     * @return A new set with the contained variable ids, empty if the part has no variable container.
+     */
+    public static Set<Integer> getContainedVariableIds(@Nullable INetwork network, @Nullable IPartNetwork partNetwork,
+                                                       PartTarget target, IPartState<?> partState) {
+        Set<Integer> variableIds = Sets.newHashSet();
+        if (network != null && partNetwork != null) {
+            IVariableContainer variableContainer = partState.getCapability(VariableContainerConfig.CAPABILITY, network, partNetwork, target);
+            if (variableContainer != null) {
+                variableIds.addAll(variableContainer.getVariableCache().keySet());
+            }
+        }
+        return variableIds;
+    }
+
     /**
      * Get a part at the given position.
      * @param partPos The part position.
@@ -10,6 +10,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.cyclopscore.datastructure.Wrapper;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.client.model.IVariableModelBaked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -19,10 +20,15 @@ import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.client.model.VariableModelProviders;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ConstantExpression;
 import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.ParallelOperatorHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -84,13 +90,52 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                         return null;
                     }
                 }
-                expression = new LazyExpression(getId(), operator, variables, network);
+                expression = foldConstants(getId(), operator, variables);
+                if (expression == null) {
+                    expression = network.getSharedExpression(operator, variables);
+                    if (expression instanceof LazyExpression) {
+                        ((LazyExpression) expression).addProfiledVariableId(getId());
+                    }
+                }
             }
             return expression;
         }
         return null;
     }
 
+    /**
+     * Evaluate the given operator in advance if it is pure and all its inputs are constant.
+     * @param variableId The id of the variable this evaluation is profiled for.
+     * @param operator The operator.
+     * @param variables The input variables.
+     * @return The constant expression, or null if the operator can not be evaluated in advance.
+     */
+    @Nullable
+    public static IExpression foldConstants(int variableId, IOperator operator, IVariable[] variables) {
+        if (!ParallelOperatorHelpers.isThreadSafe(operator)) {
+            return null;
+        }
+        for (IVariable variable : variables) {
+            if (!(variable instanceof Variable)) {
+                return null;
+            }
+        }
+        boolean profile = EvaluationProfiler.isEnabled();
+        long startNs = profile ? System.nanoTime() : 0;
+        long startBytes = profile ? EvaluationProfiler.getAllocatedBytes() : 0;
+        try {
+            IValue value = operator.evaluate(variables);
+            return new ConstantExpression(value.getType(), value);
+        } catch (EvaluationException e) {
+            // Let the error be reported when the expression is evaluated
+            return null;
+        } finally {
+            if (profile) {
+                EvaluationProfiler.recordVariable(variableId, startNs, startBytes);
+            }
+        }
+    }
+
     @Override
     public boolean isValid() {
         return getVariableIds() != null && getOperator() != null;
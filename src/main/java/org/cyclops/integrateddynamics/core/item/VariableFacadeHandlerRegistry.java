@@ -23,12 +23,14 @@ import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.logicprogrammer.event.LogicProgrammerVariableFacadeCreatedEvent;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -41,9 +43,17 @@ public class VariableFacadeHandlerRegistry implements IVariableFacadeHandlerRegi
     private static VariableFacadeHandlerRegistry INSTANCE = new VariableFacadeHandlerRegistry();
     public static DummyVariableFacade DUMMY_FACADE = new DummyVariableFacade(L10NValues.VARIABLE_ERROR_INVALIDITEM);
 
+    /**
+     * The maximum number of decoded facades that are cached per side.
+     */
+    private static final int CACHE_SIZE = 1024;
+
     private final Map<String, IVariableFacadeHandler> handlers = Maps.newHashMap();
+    // Facades are cached separately for the client and server thread, so they are never shared between them.
+    private final FacadeCache serverCache = new FacadeCache(CACHE_SIZE);
+    private final FacadeCache clientCache = new FacadeCache(CACHE_SIZE);
 
-    private VariableFacadeHandlerRegistry() {
+    protected VariableFacadeHandlerRegistry() {
 
     }
 
@@ -79,10 +89,68 @@ public class VariableFacadeHandlerRegistry implements IVariableFacadeHandlerRegi
         String type = tagCompound.getString("_type");
         int id = tagCompound.getInteger("_id");
         IVariableFacadeHandler handler = getHandler(type);
-        if(handler != null) {
+        if(handler == null) {
+            return DUMMY_FACADE;
+        }
+        if(!isCacheable(handler)) {
+            // Avoid hashing the tag for facades that are never cached.
             return handler.getVariableFacade(id, tagCompound);
         }
-        return DUMMY_FACADE;
+        FacadeCache cache = getCache();
+        IVariableFacade variableFacade = cache.get(tagCompound);
+        if(variableFacade == null) {
+            variableFacade = handler.getVariableFacade(id, tagCompound);
+            if(isCacheable(variableFacade)) {
+                cache.put(tagCompound, variableFacade);
+            }
+        }
+        return variableFacade;
+    }
+
+    /**
+     * Facades are only cached if they contain no state that depends on the network they are used in,
+     * as a cached facade is shared by all containers in all networks that contain the same variable.
+     * Other facades, such as operator and proxy facades, are decoded again for every lookup,
+     * and are cached per container instead.
+     * @param handler A facade handler.
+     * @return If the facades of the given handler may be cached.
+     */
+    protected boolean isCacheable(IVariableFacadeHandler handler) {
+        return handler instanceof ValueTypeRegistry;
+    }
+
+    /**
+     * @param variableFacade A decoded facade.
+     * @return If the facade can be cached, invalid facades are never cached.
+     */
+    protected boolean isCacheable(IVariableFacade variableFacade) {
+        return variableFacade instanceof ValueTypeVariableFacade;
+    }
+
+    protected FacadeCache getCache() {
+        return MinecraftHelpers.isClientSide() ? clientCache : serverCache;
+    }
+
+    /**
+     * @return The number of server-side facade lookups that were served from the cache.
+     */
+    public long getCacheHits() {
+        return serverCache.getHits();
+    }
+
+    /**
+     * Lookups of facades that are never cached are not counted.
+     * @return The number of server-side facade lookups that required decoding.
+     */
+    public long getCacheMisses() {
+        return serverCache.getMisses();
+    }
+
+    /**
+     * @return The number of cached server-side facades.
+     */
+    public int getCacheSize() {
+        return serverCache.size();
     }
 
     @Nullable
@@ -153,6 +221,55 @@ public class VariableFacadeHandlerRegistry implements IVariableFacadeHandlerRegi
         return copy;
     }
 
+    /**
+     * A bounded cache of decoded facades without network-dependent state, keyed by a copy of their NBT tag.
+     * The least recently used facade is removed when the cache is full.
+     */
+    protected static class FacadeCache {
+
+        private final Map<NBTTagCompound, IVariableFacade> facades;
+        private long hits = 0;
+        private long misses = 0;
+
+        public FacadeCache(int maxSize) {
+            this.facades = new LinkedHashMap<NBTTagCompound, IVariableFacade>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<NBTTagCompound, IVariableFacade> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Nullable
+        public synchronized IVariableFacade get(NBTTagCompound tag) {
+            IVariableFacade variableFacade = facades.get(tag);
+            if (variableFacade != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+            return variableFacade;
+        }
+
+        public synchronized void put(NBTTagCompound tag, IVariableFacade variableFacade) {
+            // Copy the tag, as the tag of the item may be modified afterwards.
+            facades.put(tag.copy(), variableFacade);
+        }
+
+        public synchronized long getHits() {
+            return hits;
+        }
+
+        public synchronized long getMisses() {
+            return misses;
+        }
+
+        public synchronized int size() {
+            return facades.size();
+        }
+
+    }
+
     /**
      * Variable facade used for items that have no (valid) information on them.
      */
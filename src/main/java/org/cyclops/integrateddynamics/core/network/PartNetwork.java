@@ -1,17 +1,23 @@
 package org.cyclops.integrateddynamics.core.network;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.util.EnumFacing;
 import org.apache.logging.log4j.Level;
-import org.cyclops.cyclopscore.datastructure.CompositeMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -28,11 +34,20 @@ import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.SingleValueCache;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A network that can hold parts.
@@ -46,9 +61,23 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     private INetwork network;
     private Int2ObjectMap<PartPos> partPositions = new Int2ObjectOpenHashMap<>();
     private List<DimPos> variableContainerPositions = Lists.newArrayList();
-    private Map<Integer, IVariableFacade> compositeVariableCache = null;
+    // Flat index from variable id to facade over all variable containers in this network,
+    // together with the last indexed contents of each container and the containers that hold each variable.
+    private Map<DimPos, IVariableContainer> positionedVariableContainers = Maps.newHashMap();
+    private Int2ObjectMap<IVariableContainer> partVariableContainers = new Int2ObjectOpenHashMap<>();
+    private Map<IVariableContainer, Int2ObjectMap<IVariableFacade>> indexedVariableContainers = Maps.newIdentityHashMap();
+    private Int2ObjectMap<IVariableFacade> variableIndex = new Int2ObjectOpenHashMap<>();
+    private Int2ObjectMap<List<IVariableContainer>> variableIndexContainers = new Int2ObjectOpenHashMap<>();
+    private boolean variableIndexInvalid = true;
     private Int2ObjectMap<IValue> lazyExpressionValueCache = new Int2ObjectOpenHashMap<>();
+    private Map<SharedExpressionKey, IExpression> sharedExpressions = new MapMaker().weakValues().makeMap();
+    // Shared expressions get ids that can not collide with variable ids
+    private int nextSharedExpressionId = Integer.MIN_VALUE;
     private Int2ObjectMap<DimPos> proxyPositions = new Int2ObjectOpenHashMap<>();
+    // Part id to the variable ids it depends on, and the reverse index
+    private Int2ObjectMap<IntSet> partVariableDependencies = new Int2ObjectOpenHashMap<>();
+    private Int2ObjectMap<IntSet> variableDependentParts = new Int2ObjectOpenHashMap<>();
+    private Deque<IntSet> variableDependencyRecordings = new ArrayDeque<>();
 
     private volatile boolean partsChanged = false;
 
@@ -57,8 +86,15 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         if(partPositions.containsKey(partId)) {
             return false;
         }
-        compositeVariableCache = null;
         partPositions.put(partId, partPos);
+        if (!variableIndexInvalid) {
+            IPartContainer partContainer = PartHelpers.getPartContainer(partPos.getPos(), partPos.getSide());
+            if (partContainer == null) {
+                variableIndexInvalid = true;
+            } else {
+                addPartVariableContainer(partId, partContainer, partPos.getSide());
+            }
+        }
         return true;
     }
 
@@ -76,8 +112,12 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public void removePart(int partId) {
-        compositeVariableCache = null;
         partPositions.remove(partId);
+        IVariableContainer variableContainer = partVariableContainers.remove(partId);
+        if (variableContainer != null) {
+            unindexVariableContainer(variableContainer);
+        }
+        removeVariableDependencies(partId);
     }
 
     @Override
@@ -116,45 +156,215 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return ((IPartStateReader) getPartState(partId)).getVariable(aspect);
     }
 
-    protected Map<Integer, IVariableFacade> getVariableCache() {
-        if(compositeVariableCache == null) {
-            // Create a new composite map view on the existing variable containers in this network.
-            CompositeMap<Integer, IVariableFacade> compositeMap = new CompositeMap<>();
-            for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
-                DimPos dimPos = it.next();
-                if (dimPos.isLoaded()) {
-                    IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
-                    if (variableContainer != null) {
-                        compositeMap.addElement(variableContainer.getVariableCache());
-                    } else {
-                        IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
-                        it.remove();
-                    }
+    protected Int2ObjectMap<IVariableFacade> getVariableIndex() {
+        if(variableIndexInvalid) {
+            rebuildVariableIndex();
+        }
+        return variableIndex;
+    }
+
+    /**
+     * Index all variable containers in this network from scratch.
+     * This is only needed after elements were invalidated or revalidated,
+     * all other changes are applied incrementally.
+     */
+    protected void rebuildVariableIndex() {
+        positionedVariableContainers.clear();
+        partVariableContainers.clear();
+        indexedVariableContainers.clear();
+        variableIndex.clear();
+        variableIndexContainers.clear();
+        for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
+            DimPos dimPos = it.next();
+            if (dimPos.isLoaded()) {
+                IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+                if (variableContainer != null) {
+                    positionedVariableContainers.put(dimPos, variableContainer);
+                    indexVariableContainer(variableContainer);
+                } else {
+                    IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
+                    it.remove();
                 }
             }
-            // Also check parts
-            for(PartPos partPos : partPositions.values()) {
-                if (partPos.getPos().isLoaded()) {
-                    IPartContainer partContainer = PartHelpers.getPartContainer(partPos.getPos(), partPos.getSide());
-                    IVariableContainer variableContainer = partContainer.getCapability(VariableContainerConfig.CAPABILITY, partPos.getSide());
-                    if (variableContainer != null) {
-                        compositeMap.addElement(variableContainer.getVariableCache());
-                    }
-                }
+        }
+        // Also check parts
+        for(Int2ObjectMap.Entry<PartPos> entry : partPositions.int2ObjectEntrySet()) {
+            PartPos partPos = entry.getValue();
+            if (partPos.getPos().isLoaded()) {
+                IPartContainer partContainer = PartHelpers.getPartContainer(partPos.getPos(), partPos.getSide());
+                addPartVariableContainer(entry.getIntKey(), partContainer, partPos.getSide());
+            }
+        }
+        variableIndexInvalid = false;
+    }
+
+    protected void addPartVariableContainer(int partId, IPartContainer partContainer, EnumFacing side) {
+        IVariableContainer variableContainer = partContainer.getCapability(VariableContainerConfig.CAPABILITY, side);
+        if (variableContainer != null) {
+            partVariableContainers.put(partId, variableContainer);
+            indexVariableContainer(variableContainer);
+        }
+    }
+
+    protected void indexVariableContainer(IVariableContainer variableContainer) {
+        unindexVariableContainer(variableContainer);
+        Int2ObjectMap<IVariableFacade> contents = new Int2ObjectOpenHashMap<>(variableContainer.getVariableCache());
+        indexedVariableContainers.put(variableContainer, contents);
+        for (Int2ObjectMap.Entry<IVariableFacade> entry : contents.int2ObjectEntrySet()) {
+            addToVariableIndex(entry.getIntKey(), variableContainer, entry.getValue());
+        }
+    }
+
+    protected void unindexVariableContainer(IVariableContainer variableContainer) {
+        Int2ObjectMap<IVariableFacade> contents = indexedVariableContainers.remove(variableContainer);
+        if (contents != null) {
+            for (int variableId : contents.keySet()) {
+                removeFromVariableIndex(variableId, variableContainer);
+            }
+        }
+    }
+
+    protected void addToVariableIndex(int variableId, IVariableContainer variableContainer, IVariableFacade variableFacade) {
+        List<IVariableContainer> variableContainers = variableIndexContainers.get(variableId);
+        if (variableContainers == null) {
+            variableContainers = Lists.newArrayListWithCapacity(1);
+            variableIndexContainers.put(variableId, variableContainers);
+        }
+        variableContainers.add(variableContainer);
+        if (!variableIndex.containsKey(variableId)) {
+            variableIndex.put(variableId, variableFacade);
+        }
+    }
+
+    protected void removeFromVariableIndex(int variableId, IVariableContainer variableContainer) {
+        List<IVariableContainer> variableContainers = variableIndexContainers.get(variableId);
+        if (variableContainers != null) {
+            variableContainers.remove(variableContainer);
+            if (variableContainers.isEmpty()) {
+                variableIndexContainers.remove(variableId);
+                variableIndex.remove(variableId);
+            } else {
+                // Fallback to another container that holds the same variable
+                variableIndex.put(variableId, indexedVariableContainers.get(variableContainers.get(0)).get(variableId));
             }
-            compositeVariableCache = compositeMap;
         }
-        return compositeVariableCache;
+    }
+
+    @Override
+    public void onVariableContainerUpdated(IVariableContainer variableContainer) {
+        if (variableIndexInvalid) {
+            return;
+        }
+        Int2ObjectMap<IVariableFacade> oldContents = indexedVariableContainers.get(variableContainer);
+        if (oldContents == null) {
+            return;
+        }
+        Map<Integer, IVariableFacade> newContents = variableContainer.getVariableCache();
+        for (int variableId : oldContents.keySet().toIntArray()) {
+            if (!newContents.containsKey(variableId)) {
+                oldContents.remove(variableId);
+                removeFromVariableIndex(variableId, variableContainer);
+            }
+        }
+        for (Map.Entry<Integer, IVariableFacade> entry : newContents.entrySet()) {
+            int variableId = entry.getKey();
+            IVariableFacade oldVariableFacade = oldContents.put(variableId, entry.getValue());
+            if (oldVariableFacade == null) {
+                addToVariableIndex(variableId, variableContainer, entry.getValue());
+            } else if (oldVariableFacade != entry.getValue()) {
+                // Facades are decoded again when a container is refreshed, so variables that are still present
+                // are replaced in place, so that the container that provides a duplicate variable does not change.
+                replaceInVariableIndex(variableId, variableContainer, entry.getValue());
+            }
+        }
+    }
+
+    protected void replaceInVariableIndex(int variableId, IVariableContainer variableContainer, IVariableFacade variableFacade) {
+        List<IVariableContainer> variableContainers = variableIndexContainers.get(variableId);
+        if (variableContainers != null && !variableContainers.isEmpty() && variableContainers.get(0) == variableContainer) {
+            variableIndex.put(variableId, variableFacade);
+        }
     }
 
     @Override
     public boolean hasVariableFacade(int variableId) {
-        return getVariableCache().containsKey(variableId);
+        recordVariableDependency(variableId);
+        return getVariableIndex().containsKey(variableId);
     }
 
     @Override
     public IVariableFacade getVariableFacade(int variableId) {
-        return getVariableCache().get(variableId);
+        recordVariableDependency(variableId);
+        return getVariableIndex().get(variableId);
+    }
+
+    protected void recordVariableDependency(int variableId) {
+        IntSet recording = variableDependencyRecordings.peek();
+        if (recording != null) {
+            recording.add(variableId);
+        }
+    }
+
+    @Override
+    public void beginVariableDependencies() {
+        variableDependencyRecordings.push(new IntOpenHashSet());
+    }
+
+    @Override
+    public Set<Integer> endVariableDependencies() {
+        IntSet recording = variableDependencyRecordings.pop();
+        IntSet parent = variableDependencyRecordings.peek();
+        if (parent != null) {
+            parent.addAll(recording);
+        }
+        return recording;
+    }
+
+    @Override
+    public void setVariableDependencies(int partId, Set<Integer> variableIds) {
+        removeVariableDependencies(partId);
+        IntSet dependencies = new IntOpenHashSet(variableIds);
+        partVariableDependencies.put(partId, dependencies);
+        for (int variableId : dependencies) {
+            IntSet parts = variableDependentParts.get(variableId);
+            if (parts == null) {
+                parts = new IntOpenHashSet();
+                variableDependentParts.put(variableId, parts);
+            }
+            parts.add(partId);
+        }
+    }
+
+    protected void removeVariableDependencies(int partId) {
+        IntSet dependencies = partVariableDependencies.remove(partId);
+        if (dependencies != null) {
+            for (int variableId : dependencies) {
+                IntSet parts = variableDependentParts.get(variableId);
+                if (parts != null) {
+                    parts.remove(partId);
+                    if (parts.isEmpty()) {
+                        variableDependentParts.remove(variableId);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasVariableDependencies(int partId) {
+        return partVariableDependencies.containsKey(partId);
+    }
+
+    @Override
+    public Set<Integer> getVariableDependents(Collection<Integer> variableIds) {
+        IntSet dependents = new IntOpenHashSet();
+        for (int variableId : variableIds) {
+            IntSet parts = variableDependentParts.get(variableId);
+            if (parts != null) {
+                dependents.addAll(parts);
+            }
+        }
+        return dependents;
     }
 
     @Override
@@ -177,16 +387,40 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         lazyExpressionValueCache.remove(id);
     }
 
+    @Override
+    public <V extends IValue> IExpression<V> getSharedExpression(IOperator operator, IVariable[] inputs) {
+        SharedExpressionKey key = new SharedExpressionKey(operator, inputs);
+        IExpression<V> expression = sharedExpressions.get(key);
+        if (expression == null || expression.hasErrored()) {
+            // Shared expressions cache their value themselves instead of in this network,
+            // so that the value is released once the expression is replaced or no longer referenced.
+            expression = new LazyExpression<>(nextSharedExpressionId++, operator, inputs, new SingleValueCache());
+            sharedExpressions.put(key, expression);
+        }
+        return expression;
+    }
+
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
+        if (!variableIndexInvalid) {
+            IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            if (variableContainer != null) {
+                positionedVariableContainers.put(dimPos, variableContainer);
+                indexVariableContainer(variableContainer);
+            } else {
+                variableIndexInvalid = true;
+            }
+        }
         return variableContainerPositions.add(dimPos);
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
         variableContainerPositions.remove(dimPos);
+        IVariableContainer variableContainer = positionedVariableContainers.remove(dimPos);
+        if (variableContainer != null) {
+            unindexVariableContainer(variableContainer);
+        }
     }
 
     @Override
@@ -234,13 +468,83 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public void invalidateElement(INetworkElement element) {
-        compositeVariableCache = null;
+        variableIndexInvalid = true;
         super.invalidateElement(element);
     }
 
     @Override
     public void revalidateElement(INetworkElement element) {
-        compositeVariableCache = null;
+        variableIndexInvalid = true;
         super.revalidateElement(element);
     }
+    /**
+     * Key for structurally identical expressions.
+     */
+    protected static class SharedExpressionKey {
+
+        private final IOperator operator;
+        private final Object[] inputs;
+        private final int hash;
+
+        public SharedExpressionKey(IOperator operator, IVariable[] variables) {
+            this.operator = operator;
+            this.inputs = new Object[variables.length];
+            for (int i = 0; i < variables.length; i++) {
+                this.inputs[i] = getInputKey(variables[i]);
+            }
+            this.hash = 31 * operator.hashCode() + Arrays.hashCode(inputs);
+        }
+
+        protected static Object getInputKey(IVariable variable) {
+            if (variable instanceof Variable) {
+                try {
+                    IValue value = variable.getValue();
+                    // Infinite lists can not be hashed
+                    if (!(value instanceof ValueTypeList.ValueList)
+                            || !((ValueTypeList.ValueList) value).getRawValue().isInfinite()) {
+                        return value;
+                    }
+                } catch (EvaluationException e) {
+                    // Fallback to comparing by instance
+                }
+            }
+            return new VariableReference(variable);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SharedExpressionKey
+                    && this.hash == ((SharedExpressionKey) obj).hash
+                    && this.operator.equals(((SharedExpressionKey) obj).operator)
+                    && Arrays.equals(this.inputs, ((SharedExpressionKey) obj).inputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Compares variables by instance.
+     */
+    protected static class VariableReference {
+
+        private final IVariable variable;
+
+        public VariableReference(IVariable variable) {
+            this.variable = variable;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof VariableReference && ((VariableReference) obj).variable == this.variable;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(variable);
+        }
+    }
+
 }
@@ -0,0 +1,150 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the invocation count, cumulative duration and allocated memory
+ * of operator and variable evaluations.
+ *
+ * Evaluations are only measured while the profiler is enabled,
+ * otherwise the only overhead at the instrumented call sites is a single field read.
+ * Durations and allocations are inclusive, so they also contain the nested evaluations.
+ * @author rubensworks
+ */
+public class EvaluationProfiler {
+
+    private static volatile boolean enabled = false;
+
+    private static final Map<String, Stats> OPERATORS = Maps.newConcurrentMap();
+    private static final Map<Integer, Stats> VARIABLES = Maps.newConcurrentMap();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                return (com.sun.management.ThreadMXBean) bean;
+            }
+        } catch (LinkageError e) {
+            // Allocations can not be measured on this JVM.
+        }
+        return null;
+    }
+
+    /**
+     * @return If evaluations are being profiled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled If evaluations should be profiled.
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && ALLOCATION_BEAN != null && !ALLOCATION_BEAN.isThreadAllocatedMemoryEnabled()) {
+            ALLOCATION_BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+        EvaluationProfiler.enabled = enabled;
+    }
+
+    /**
+     * Remove all collected data.
+     */
+    public static void reset() {
+        OPERATORS.clear();
+        VARIABLES.clear();
+    }
+
+    /**
+     * @return The number of bytes that have been allocated by the current thread, or 0 if this can not be measured.
+     */
+    public static long getAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Record an operator evaluation.
+     * @param operator The evaluated operator.
+     * @param startNs The {@link System#nanoTime()} at the start of the evaluation.
+     * @param startBytes The {@link #getAllocatedBytes()} at the start of the evaluation.
+     */
+    public static void recordOperator(IOperator operator, long startNs, long startBytes) {
+        long durationNs = System.nanoTime() - startNs;
+        long allocatedBytes = getAllocatedBytes() - startBytes;
+        OPERATORS.computeIfAbsent(operator.getUniqueName(), k -> new Stats()).add(durationNs, allocatedBytes);
+    }
+
+    /**
+     * Record a variable evaluation.
+     * @param id The id of the evaluated variable card.
+     * @param startNs The {@link System#nanoTime()} at the start of the evaluation.
+     * @param startBytes The {@link #getAllocatedBytes()} at the start of the evaluation.
+     */
+    public static void recordVariable(int id, long startNs, long startBytes) {
+        long durationNs = System.nanoTime() - startNs;
+        long allocatedBytes = getAllocatedBytes() - startBytes;
+        VARIABLES.computeIfAbsent(id, k -> new Stats()).add(durationNs, allocatedBytes);
+    }
+
+    /**
+     * @return A snapshot of all collected data, sorted by descending duration.
+     */
+    public static List<RawEvaluationData> getData() {
+        List<RawEvaluationData> data = Lists.newArrayList();
+        for (Map.Entry<String, Stats> entry : OPERATORS.entrySet()) {
+            data.add(entry.getValue().toRawData(RawEvaluationData.TYPE_OPERATOR, entry.getKey()));
+        }
+        for (Map.Entry<Integer, Stats> entry : VARIABLES.entrySet()) {
+            data.add(entry.getValue().toRawData(RawEvaluationData.TYPE_VARIABLE, String.valueOf(entry.getKey())));
+        }
+        data.sort(Comparator.comparingLong(RawEvaluationData::getDurationNs).reversed());
+        return data;
+    }
+
+    /**
+     * Write all collected data to the given file in CSV format.
+     * @param file The target file.
+     * @throws IOException If the file could not be written.
+     */
+    public static void exportCsv(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            writer.println("type,name,invocations,durationNs,allocatedBytes");
+            for (RawEvaluationData data : getData()) {
+                writer.println(data.toCsvRow());
+            }
+        }
+    }
+
+    protected static class Stats {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder durationNs = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        public void add(long durationNs, long allocatedBytes) {
+            this.invocations.increment();
+            this.durationNs.add(durationNs);
+            this.allocatedBytes.add(allocatedBytes);
+        }
+
+        public RawEvaluationData toRawData(String type, String name) {
+            return new RawEvaluationData(type, name, invocations.sum(), durationNs.sum(), allocatedBytes.sum());
+        }
+
+    }
+
+}
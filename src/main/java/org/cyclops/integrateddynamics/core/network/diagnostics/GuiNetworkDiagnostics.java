@@ -51,6 +51,12 @@ public class GuiNetworkDiagnostics extends JFrame {
     private static DefaultTableModel modelObservers;
     private static Multimap<Integer, ObservableObserverData> networkDataObservers = ArrayListMultimap.create();
 
+    private static JTable tableEvaluations = null;
+    private static Vector<String> columnNamesEvaluations = new Vector<>();
+    private static Vector<Vector<Object>> dataEvaluations = new Vector<>();
+    private static DefaultTableModel modelEvaluations;
+    private static List<RawEvaluationData> evaluationData = Lists.newArrayList();
+
     public static void setNetworkData(int id, RawNetworkData rawNetworkData) {
         synchronized (networkDataParts) {
             Collection<ObservablePartData> previous = networkDataParts.removeAll(id);
@@ -132,9 +138,19 @@ public class GuiNetworkDiagnostics extends JFrame {
         }
     }
 
+    public static void setEvaluationData(List<RawEvaluationData> evaluations) {
+        synchronized (networkDataParts) {
+            evaluationData = evaluations;
+        }
+        if (gui != null) {
+            gui.updateTables();
+        }
+    }
+
     public static void clearNetworkData() {
         networkDataParts.clear();
         networkDataObservers.clear();
+        evaluationData = Lists.newArrayList();
     }
 
     public static void start() {
@@ -205,6 +221,11 @@ public class GuiNetworkDiagnostics extends JFrame {
                             dataObservers.addElement(row);
                         }
 
+                        dataEvaluations.clear();
+                        for (RawEvaluationData rawEvaluationData : evaluationData) {
+                            dataEvaluations.addElement(toEvaluationRow(rawEvaluationData));
+                        }
+
                         if (tableParts == null) {
                             tableParts = new JTable();
                             modelParts = new DefaultTableModel(dataParts, columnNamesParts) {
@@ -324,8 +345,33 @@ public class GuiNetworkDiagnostics extends JFrame {
                                 }
                             });
 
+                            /* ----- ----- ----- Init evaluations table ----- ----- ----- */
+                            columnNamesEvaluations.clear();
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.type"));
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.name"));
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.invocations"));
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.totaltime"));
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.averagetime"));
+                            columnNamesEvaluations.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.allocated"));
+
+                            tableEvaluations = new JTable();
+                            modelEvaluations = new DefaultTableModel(dataEvaluations, columnNamesEvaluations) {
+                                @Override
+                                public Class<?> getColumnClass(int column) {
+                                    if (column == 2 || column == 5) {
+                                        return Long.class;
+                                    }
+                                    if (column == 3 || column == 4) {
+                                        return Double.class;
+                                    }
+                                    return String.class;
+                                }
+                            };
+                            tableEvaluations.setModel(modelEvaluations);
+                            tableEvaluations.setAutoCreateRowSorter(true);
+
                             // Pack GUI
-                            JPanel panelMain = new JPanel(new GridLayout(2, 1));
+                            JPanel panelMain = new JPanel(new GridLayout(3, 1));
                             JPanel panelParts = new JPanel(new BorderLayout());
                             JPanel panelObservers = new JPanel(new BorderLayout());
                             panelParts.add(BorderLayout.NORTH, new JLabel(L10NHelpers.localize("gui.integrateddynamics.diagnostics.parts")));
@@ -334,6 +380,10 @@ public class GuiNetworkDiagnostics extends JFrame {
                             panelObservers.add(BorderLayout.CENTER, new JScrollPane(tableObservers));
                             panelMain.add(panelParts);
                             panelMain.add(panelObservers);
+                            JPanel panelEvaluations = new JPanel(new BorderLayout());
+                            panelEvaluations.add(BorderLayout.NORTH, new JLabel(L10NHelpers.localize("gui.integrateddynamics.diagnostics.evaluations")));
+                            panelEvaluations.add(BorderLayout.CENTER, new JScrollPane(tableEvaluations));
+                            panelMain.add(panelEvaluations);
                             add(panelMain);
                             pack();
                         } else {
@@ -341,6 +391,8 @@ public class GuiNetworkDiagnostics extends JFrame {
                             modelParts.fireTableDataChanged();
                             tableObservers.getRowSorter().allRowsChanged();
                             modelObservers.fireTableDataChanged();
+                            tableEvaluations.getRowSorter().allRowsChanged();
+                            modelEvaluations.fireTableDataChanged();
                         }
                         repaint();
                     }
@@ -351,6 +403,17 @@ public class GuiNetworkDiagnostics extends JFrame {
         }
     }
 
+    protected static Vector<Object> toEvaluationRow(RawEvaluationData rawEvaluationData) {
+        Vector<Object> row = new Vector<>();
+        row.add(rawEvaluationData.getType());
+        row.add(rawEvaluationData.getName());
+        row.add(rawEvaluationData.getInvocations());
+        row.add(((double) rawEvaluationData.getDurationNs()) / 1000000);
+        row.add(rawEvaluationData.getInvocations() == 0 ? 0D : ((double) rawEvaluationData.getDurationNs()) / rawEvaluationData.getInvocations() / 1000);
+        row.add(rawEvaluationData.getAllocatedBytes() / 1024);
+        return row;
+    }
+
     protected static ObservablePartData getPartDataFromRow(int row) {
         if (row < 0) {
             return null;
@@ -12,6 +12,7 @@ import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
+import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsEvaluationsPacket;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsNetworkPacket;
 
 import java.util.Iterator;
@@ -100,6 +101,19 @@ public class NetworkDiagnostics {
         }
     }
 
+    public synchronized void sendEvaluationUpdate() {
+        NetworkDiagnosticsEvaluationsPacket packet = new NetworkDiagnosticsEvaluationsPacket(EvaluationProfiler.getData());
+        for (Iterator<UUID> it = players.iterator(); it.hasNext();) {
+            UUID uuid = it.next();
+            EntityPlayerMP player = getPlayer(uuid);
+            if (player != null) {
+                IntegratedDynamics._instance.getPacketHandler().sendToPlayer(packet, player);
+            } else {
+                it.remove();
+            }
+        }
+    }
+
     public synchronized boolean isBeingDiagnozed() {
         return !players.isEmpty();
     }
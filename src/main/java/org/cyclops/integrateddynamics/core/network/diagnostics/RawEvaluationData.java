@@ -0,0 +1,46 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import lombok.Data;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Profiling data of an operator or variable.
+ * @author rubensworks
+ */
+@Data
+public class RawEvaluationData implements IRawData {
+
+    public static final String TYPE_OPERATOR = "operator";
+    public static final String TYPE_VARIABLE = "variable";
+
+    private final String type;
+    private final String name;
+    private final long invocations;
+    private final long durationNs;
+    private final long allocatedBytes;
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %s invocations, %sns, %sB", type, name, invocations, durationNs, allocatedBytes);
+    }
+
+    public String toCsvRow() {
+        return String.format("%s,\"%s\",%s,%s,%s", type, name.replace("\"", "\"\""), invocations, durationNs, allocatedBytes);
+    }
+
+    public NBTTagCompound toNbt() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("type", type);
+        tag.setString("name", name);
+        tag.setLong("invocations", invocations);
+        tag.setLong("durationNs", durationNs);
+        tag.setLong("allocatedBytes", allocatedBytes);
+        return tag;
+    }
+
+    public static RawEvaluationData fromNbt(NBTTagCompound tag) {
+        return new RawEvaluationData(tag.getString("type"), tag.getString("name"),
+                tag.getLong("invocations"), tag.getLong("durationNs"), tag.getLong("allocatedBytes"));
+    }
+
+}
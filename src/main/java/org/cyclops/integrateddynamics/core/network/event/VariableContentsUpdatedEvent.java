@@ -1,15 +1,77 @@
 package org.cyclops.integrateddynamics.core.network.event;
 
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Set;
 
 /**
  * An event used to signal network elements of updated variables inside the network.
+ *
+ * If the updated variable ids are known, only the parts that depend on these variables are affected,
+ * otherwise all elements are affected.
  * @author rubensworks
  */
 public class VariableContentsUpdatedEvent extends NetworkEvent {
 
+    private final Collection<Integer> variableIds;
+    private Set<Integer> dependentParts = null;
+
     public VariableContentsUpdatedEvent(INetwork network) {
+        this(network, null);
+    }
+
+    /**
+     * @param network The network.
+     * @param variableIds The ids of the variables that were updated, or null if unknown.
+     */
+    public VariableContentsUpdatedEvent(INetwork network, @Nullable Collection<Integer> variableIds) {
         super(network);
+        this.variableIds = variableIds;
+    }
+
+    /**
+     * @return The ids of the variables that were updated, or null if unknown.
+     */
+    @Nullable
+    public Collection<Integer> getVariableIds() {
+        return variableIds;
+    }
+
+    /**
+     * Check if the given part must refresh its variables for this event.
+     * This is the case if the updated variables are unknown, if the dependencies of the part are unknown,
+     * or if the part depends on any of the updated variables.
+     * @param partId The part id.
+     * @return If the part is affected.
+     */
+    public boolean isPartAffected(int partId) {
+        if (variableIds == null) {
+            return true;
+        }
+        return isPartAffected(NetworkHelpers.getPartNetwork(getNetwork()), partId);
+    }
+
+    /**
+     * Check if the given part must refresh its variables for this event.
+     * @param partNetwork The part network of this event's network, can be null.
+     * @param partId The part id.
+     * @return If the part is affected.
+     */
+    public boolean isPartAffected(@Nullable IPartNetwork partNetwork, int partId) {
+        if (variableIds == null) {
+            return true;
+        }
+        if (partNetwork == null || !partNetwork.hasVariableDependencies(partId)) {
+            return true;
+        }
+        if (dependentParts == null) {
+            dependentParts = partNetwork.getVariableDependents(variableIds);
+        }
+        return dependentParts.contains(partId);
     }
 
 }
@@ -89,10 +89,21 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
             if (variableContainer.getVariableCache().isEmpty()) {
                 variableContainer.refreshVariables(network, inventory, false);
             }
-            for (IVariableFacade facade : variableContainer.getVariableCache().values()) {
-                if (facade != null) {
-                    currentVariableFacade = facade;
-                    validate(partNetwork);
+            // Remember which variables are looked up during validation,
+            // so that we are only notified of changes to those variables.
+            if (partNetwork != null) {
+                partNetwork.beginVariableDependencies();
+            }
+            try {
+                for (IVariableFacade facade : variableContainer.getVariableCache().values()) {
+                    if (facade != null) {
+                        currentVariableFacade = facade;
+                        validate(partNetwork);
+                    }
+                }
+            } finally {
+                if (partNetwork != null) {
+                    partNetwork.setVariableDependencies(getId(), partNetwork.endVariableDependencies());
                 }
             }
             this.checkedForWriteVariable = true;
@@ -147,16 +158,32 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
     @Override
     public void writeToNBT(NBTTagCompound tag) {
         super.writeToNBT(tag);
-        NBTClassType.writeNbt(List.class, "globalErrorMessages", globalErrorMessages, tag);
+        writeGlobalErrors(tag);
         inventory.writeToNBT(tag);
     }
 
     @Override
     public void readFromNBT(NBTTagCompound tag) {
         super.readFromNBT(tag);
+        readGlobalErrors(tag);
+        inventory.readFromNBT(tag);
+    }
+
+    /**
+     * Write the global error messages to the given tag.
+     * @param tag The tag to write to.
+     */
+    protected void writeGlobalErrors(NBTTagCompound tag) {
+        NBTClassType.writeNbt(List.class, "globalErrorMessages", globalErrorMessages, tag);
+    }
+
+    /**
+     * Read the global error messages from the given tag.
+     * @param tag The tag to read from.
+     */
+    protected void readGlobalErrors(NBTTagCompound tag) {
         //noinspection unchecked
         this.globalErrorMessages = NBTClassType.readNbt(List.class, "globalErrorMessages", tag);
-        inventory.readFromNBT(tag);
     }
 
     @Override
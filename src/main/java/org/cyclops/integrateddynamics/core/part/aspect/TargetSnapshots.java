@@ -0,0 +1,300 @@
+package org.cyclops.integrateddynamics.core.part.aspect;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.Entity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.energy.IEnergyStorage;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.helper.EnergyHelpers;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-tick snapshots of the inventory, tank and energy storage at part targets,
+ * and of the entities in chunk sections.
+ *
+ * Multiple reader aspects that target the same block side share a single snapshot within a tick,
+ * so that the capability is only looked up once and the slots are only iterated once.
+ * Entity readers in the same chunk section share a single world query within a tick.
+ * Snapshots are only taken on the server thread, and are dropped at the end of each server tick.
+ * @author rubensworks
+ */
+public final class TargetSnapshots {
+
+    private static final Cache<PartPos, InventorySnapshot> INVENTORIES = new Cache<>(TargetSnapshots::getWorld, InventorySnapshot::create);
+    private static final Cache<PartPos, FluidSnapshot> FLUIDS = new Cache<>(TargetSnapshots::getWorld, FluidSnapshot::create);
+    private static final Cache<PartPos, IEnergyStorage> ENERGY_STORAGES = new Cache<>(TargetSnapshots::getWorld, EnergyHelpers::getEnergyStorage);
+    private static final Cache<DimPos, List<Entity>> ENTITY_SECTIONS = new Cache<>(DimPos::getWorld, TargetSnapshots::queryEntitySection);
+
+    private TargetSnapshots() {
+
+    }
+
+    @Nullable
+    protected static World getWorld(PartPos target) {
+        return target.getPos().getWorld();
+    }
+
+    /**
+     * @param target The target position.
+     * @return The inventory snapshot at the given target, or null if there is no inventory.
+     */
+    @Nullable
+    public static InventorySnapshot getInventory(PartPos target) {
+        return INVENTORIES.get(target);
+    }
+
+    /**
+     * @param pos The target position.
+     * @param side The target side.
+     * @return The inventory snapshot at the given target, or null if there is no inventory.
+     */
+    @Nullable
+    public static InventorySnapshot getInventory(DimPos pos, @Nullable EnumFacing side) {
+        return getInventory(PartPos.of(pos, side));
+    }
+
+    /**
+     * @param target The target position.
+     * @return The tank snapshot at the given target, or null if there is no tank.
+     */
+    @Nullable
+    public static FluidSnapshot getFluid(PartPos target) {
+        return FLUIDS.get(target);
+    }
+
+    /**
+     * @param pos The target position.
+     * @param side The target side.
+     * @return The tank snapshot at the given target, or null if there is no tank.
+     */
+    @Nullable
+    public static FluidSnapshot getFluid(DimPos pos, @Nullable EnumFacing side) {
+        return getFluid(PartPos.of(pos, side));
+    }
+
+    /**
+     * @param target The target position.
+     * @return The energy storage at the given target, or null if there is none.
+     */
+    @Nullable
+    public static IEnergyStorage getEnergyStorage(PartPos target) {
+        return ENERGY_STORAGES.get(target);
+    }
+
+    /**
+     * Find the entities that intersect with the block at the given position.
+     * All entities in the surrounding chunk section are queried at most once per tick,
+     * and are filtered for each requested block, in the same order as a direct world query would return them.
+     * @param pos The block position.
+     * @param predicate An optional entity filter.
+     * @return The matching entities.
+     */
+    public static List<Entity> getEntities(DimPos pos, @Nullable Predicate<? super Entity> predicate) {
+        World world = pos.getWorld();
+        if (world == null) {
+            return Collections.emptyList();
+        }
+        BlockPos blockPos = pos.getBlockPos();
+        List<Entity> sectionEntities = ENTITY_SECTIONS.get(DimPos.of(world,
+                new BlockPos(blockPos.getX() & ~15, blockPos.getY() & ~15, blockPos.getZ() & ~15)));
+        if (sectionEntities == null || sectionEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        AxisAlignedBB box = new AxisAlignedBB(blockPos, blockPos.add(1, 1, 1));
+        List<Entity> entities = Lists.newArrayList();
+        for (Entity entity : sectionEntities) {
+            if (entity.getEntityBoundingBox().intersects(box) && (predicate == null || predicate.apply(entity))) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    protected static List<Entity> queryEntitySection(DimPos section) {
+        BlockPos origin = section.getBlockPos();
+        return section.getWorld().getEntitiesInAABBexcluding(null,
+                new AxisAlignedBB(origin, origin.add(16, 16, 16)), null);
+    }
+
+    /**
+     * Drop all snapshots, this should be called at the end of each server tick.
+     */
+    public static void clear() {
+        INVENTORIES.clear();
+        FLUIDS.clear();
+        ENERGY_STORAGES.clear();
+        ENTITY_SECTIONS.clear();
+    }
+
+    protected static class Cache<K, T> {
+
+        private final Function<K, World> worldGetter;
+        private final Function<K, T> factory;
+        private final Map<K, Entry<T>> entries = Maps.newHashMap();
+
+        protected Cache(Function<K, World> worldGetter, Function<K, T> factory) {
+            this.worldGetter = worldGetter;
+            this.factory = factory;
+        }
+
+        @Nullable
+        public T get(K key) {
+            World world = worldGetter.apply(key);
+            if (world == null) {
+                return null;
+            }
+            MinecraftServer server = world.getMinecraftServer();
+            if (world.isRemote || server == null || !server.isCallingFromMinecraftThread()) {
+                return factory.apply(key);
+            }
+            long time = world.getTotalWorldTime();
+            Entry<T> entry = entries.get(key);
+            if (entry == null || entry.time != time) {
+                entry = new Entry<>(time, factory.apply(key));
+                entries.put(key, entry);
+            }
+            return entry.value;
+        }
+
+        public void clear() {
+            entries.clear();
+        }
+
+    }
+
+    protected static class Entry<T> {
+
+        private final long time;
+        private final T value;
+
+        protected Entry(long time, @Nullable T value) {
+            this.time = time;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * A snapshot of an inventory.
+     * Aggregated values are calculated in a single pass over the slots when first needed.
+     */
+    public static class InventorySnapshot {
+
+        private final IItemHandler itemHandler;
+        private final int slots;
+        private boolean aggregated = false;
+        private int count;
+        private int filledSlots;
+
+        protected InventorySnapshot(IItemHandler itemHandler) {
+            this.itemHandler = itemHandler;
+            this.slots = itemHandler.getSlots();
+        }
+
+        @Nullable
+        protected static InventorySnapshot create(PartPos target) {
+            World world = target.getPos().getWorld();
+            IItemHandler itemHandler = world == null ? null : TileHelpers.getCapability(world,
+                    target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+            return itemHandler != null ? new InventorySnapshot(itemHandler) : null;
+        }
+
+        protected void aggregate() {
+            if (!aggregated) {
+                for (int i = 0; i < slots; i++) {
+                    ItemStack itemStack = itemHandler.getStackInSlot(i);
+                    if (!itemStack.isEmpty()) {
+                        count += itemStack.getCount();
+                        filledSlots++;
+                    }
+                }
+                aggregated = true;
+            }
+        }
+
+        public IItemHandler getItemHandler() {
+            return itemHandler;
+        }
+
+        public int getSlots() {
+            return slots;
+        }
+
+        public ItemStack getStackInSlot(int slot) {
+            return itemHandler.getStackInSlot(slot);
+        }
+
+        /**
+         * @return The total number of items in all slots.
+         */
+        public int getCount() {
+            aggregate();
+            return count;
+        }
+
+        /**
+         * @return The number of non-empty slots.
+         */
+        public int getFilledSlots() {
+            aggregate();
+            return filledSlots;
+        }
+
+    }
+
+    /**
+     * A snapshot of a tank.
+     */
+    public static class FluidSnapshot {
+
+        private static final IFluidTankProperties[] EMPTY = new IFluidTankProperties[0];
+
+        private final IFluidHandler fluidHandler;
+        private final IFluidTankProperties[] tankProperties;
+
+        protected FluidSnapshot(IFluidHandler fluidHandler) {
+            this.fluidHandler = fluidHandler;
+            IFluidTankProperties[] tankProperties = fluidHandler.getTankProperties();
+            this.tankProperties = tankProperties != null ? tankProperties : EMPTY;
+        }
+
+        @Nullable
+        protected static FluidSnapshot create(PartPos target) {
+            IFluidHandler fluidHandler = TileHelpers.getCapability(target.getPos(), target.getSide(),
+                    CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+            return fluidHandler != null ? new FluidSnapshot(fluidHandler) : null;
+        }
+
+        public IFluidHandler getFluidHandler() {
+            return fluidHandler;
+        }
+
+        /**
+         * @return The properties of all tanks, which must not be modified.
+         */
+        public IFluidTankProperties[] getTankProperties() {
+            return tankProperties;
+        }
+
+    }
+
+}
@@ -0,0 +1,304 @@
+package org.cyclops.integrateddynamics.core.part.aspect;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.cyclops.cyclopscore.helper.LocationHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.network.packet.SpeakTextPacket;
+import org.cyclops.integrateddynamics.network.packet.WriterEffectsPacket;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the sounds, particles and spoken texts of audio and effect writers during the network tick.
+ *
+ * Once all networks have been updated, each player receives a single packet with all effects within its range,
+ * limited to the closest {@link GeneralConfig#writerEffectsPerPlayerLimit} effects.
+ * Outside of the network tick, effects are sent immediately.
+ * @author rubensworks
+ */
+public final class WriterEffects {
+
+    private static final Map<World, List<Effect>> PENDING = Maps.newLinkedHashMap();
+    private static boolean batching = false;
+
+    private WriterEffects() {
+
+    }
+
+    /**
+     * Start collecting effects, this should be called before the networks are updated.
+     */
+    public static void begin() {
+        batching = true;
+    }
+
+    /**
+     * Play a sound for all players in range.
+     * @param world The world.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @param soundEvent The sound.
+     * @param category The sound category.
+     * @param volume The volume.
+     * @param pitch The pitch.
+     */
+    public static void playSound(World world, double x, double y, double z, SoundEvent soundEvent,
+                                 SoundCategory category, float volume, float pitch) {
+        if (!batching || !(world instanceof WorldServer)) {
+            world.playSound(null, x, y, z, soundEvent, category, volume, pitch);
+        } else {
+            add(world, new Sound(x, y, z, soundEvent, category, volume, pitch));
+        }
+    }
+
+    /**
+     * Spawn particles for all players in range.
+     * @param world The world.
+     * @param particle The particle type.
+     * @param force If the particles must be shown from a long distance.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @param count The number of particles.
+     * @param xSpread The X spread.
+     * @param ySpread The Y spread.
+     * @param zSpread The Z spread.
+     * @param velocity The velocity.
+     * @param arguments The particle arguments.
+     */
+    public static void spawnParticle(WorldServer world, EnumParticleTypes particle, boolean force,
+                                     double x, double y, double z, int count,
+                                     double xSpread, double ySpread, double zSpread, double velocity, int... arguments) {
+        if (!batching) {
+            world.spawnParticle(particle, force, x, y, z, count, xSpread, ySpread, zSpread, velocity, arguments);
+        } else {
+            add(world, new Particle(x, y, z, particle, force, count, xSpread, ySpread, zSpread, velocity, arguments));
+        }
+    }
+
+    /**
+     * Speak the given text for all players in range.
+     * @param world The world.
+     * @param pos The position.
+     * @param text The text to speak.
+     * @param range The range in blocks.
+     */
+    public static void speakText(World world, BlockPos pos, String text, int range) {
+        if (!batching) {
+            IntegratedDynamics._instance.getPacketHandler().sendToAllAround(new SpeakTextPacket(text),
+                    LocationHelpers.createTargetPointFromLocation(world, pos, range));
+        } else {
+            add(world, new Text(pos.getX(), pos.getY(), pos.getZ(), text, range));
+        }
+    }
+
+    protected static void add(World world, Effect effect) {
+        List<Effect> effects = PENDING.get(world);
+        if (effects == null) {
+            effects = Lists.newArrayList();
+            PENDING.put(world, effects);
+        }
+        effects.add(effect);
+    }
+
+    /**
+     * Stop collecting and send all collected effects, this should be called after the networks are updated.
+     */
+    public static void flush() {
+        batching = false;
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<World, List<Effect>> entry : PENDING.entrySet()) {
+            World world = entry.getKey();
+            List<Effect> effects = entry.getValue();
+            for (EntityPlayer player : world.playerEntities) {
+                if (player instanceof EntityPlayerMP) {
+                    sendToPlayer((EntityPlayerMP) player, effects);
+                }
+            }
+        }
+        PENDING.clear();
+    }
+
+    protected static void sendToPlayer(EntityPlayerMP player, List<Effect> effects) {
+        List<Effect> playerEffects = Lists.newArrayList();
+        for (Effect effect : effects) {
+            if (effect.getDistanceSq(player) <= effect.getRangeSq()) {
+                playerEffects.add(effect);
+            }
+        }
+        if (playerEffects.isEmpty()) {
+            return;
+        }
+        if (playerEffects.size() > GeneralConfig.writerEffectsPerPlayerLimit) {
+            playerEffects.sort(Comparator.comparingDouble(effect -> effect.getDistanceSq(player)));
+            playerEffects = playerEffects.subList(0, GeneralConfig.writerEffectsPerPlayerLimit);
+        }
+        NBTTagList list = new NBTTagList();
+        for (Effect effect : playerEffects) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setString("type", effect.getType());
+            tag.setDouble("x", effect.x);
+            tag.setDouble("y", effect.y);
+            tag.setDouble("z", effect.z);
+            effect.writeToNBT(tag);
+            list.appendTag(tag);
+        }
+        IntegratedDynamics._instance.getPacketHandler().sendToPlayer(new WriterEffectsPacket(list), player);
+    }
+
+    protected static abstract class Effect {
+
+        protected final double x;
+        protected final double y;
+        protected final double z;
+
+        protected Effect(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        protected double getDistanceSq(EntityPlayer player) {
+            return player.getDistanceSq(x, y, z);
+        }
+
+        protected abstract double getRangeSq();
+
+        protected abstract String getType();
+
+        protected abstract void writeToNBT(NBTTagCompound tag);
+
+    }
+
+    protected static class Sound extends Effect {
+
+        private final SoundEvent soundEvent;
+        private final SoundCategory category;
+        private final float volume;
+        private final float pitch;
+
+        protected Sound(double x, double y, double z, SoundEvent soundEvent, SoundCategory category, float volume, float pitch) {
+            super(x, y, z);
+            this.soundEvent = soundEvent;
+            this.category = category;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        @Override
+        protected double getRangeSq() {
+            // Same range as World#playSound
+            double range = volume > 1.0F ? 16.0D * volume : 16.0D;
+            return range * range;
+        }
+
+        @Override
+        protected String getType() {
+            return WriterEffectsPacket.TYPE_SOUND;
+        }
+
+        @Override
+        protected void writeToNBT(NBTTagCompound tag) {
+            tag.setString("sound", soundEvent.getRegistryName().toString());
+            tag.setInteger("category", category.ordinal());
+            tag.setFloat("volume", volume);
+            tag.setFloat("pitch", pitch);
+        }
+
+    }
+
+    protected static class Particle extends Effect {
+
+        private final EnumParticleTypes particle;
+        private final boolean force;
+        private final int count;
+        private final double xSpread;
+        private final double ySpread;
+        private final double zSpread;
+        private final double velocity;
+        private final int[] arguments;
+
+        protected Particle(double x, double y, double z, EnumParticleTypes particle, boolean force, int count,
+                           double xSpread, double ySpread, double zSpread, double velocity, int[] arguments) {
+            super(x, y, z);
+            this.particle = particle;
+            this.force = force;
+            this.count = count;
+            this.xSpread = xSpread;
+            this.ySpread = ySpread;
+            this.zSpread = zSpread;
+            this.velocity = velocity;
+            this.arguments = arguments;
+        }
+
+        @Override
+        protected double getRangeSq() {
+            // Same range as WorldServer#spawnParticle
+            return force ? 262144.0D : 1024.0D;
+        }
+
+        @Override
+        protected String getType() {
+            return WriterEffectsPacket.TYPE_PARTICLE;
+        }
+
+        @Override
+        protected void writeToNBT(NBTTagCompound tag) {
+            tag.setInteger("particle", particle.getParticleID());
+            tag.setBoolean("force", force);
+            tag.setInteger("count", count);
+            tag.setDouble("xSpread", xSpread);
+            tag.setDouble("ySpread", ySpread);
+            tag.setDouble("zSpread", zSpread);
+            tag.setDouble("velocity", velocity);
+            tag.setIntArray("arguments", arguments);
+        }
+
+    }
+
+    protected static class Text extends Effect {
+
+        private final String text;
+        private final int range;
+
+        protected Text(double x, double y, double z, String text, int range) {
+            super(x, y, z);
+            this.text = text;
+            this.range = range;
+        }
+
+        @Override
+        protected double getRangeSq() {
+            return (double) range * range;
+        }
+
+        @Override
+        protected String getType() {
+            return WriterEffectsPacket.TYPE_TEXT;
+        }
+
+        @Override
+        protected void writeToNBT(NBTTagCompound tag) {
+            tag.setString("text", text);
+        }
+
+    }
+
+}
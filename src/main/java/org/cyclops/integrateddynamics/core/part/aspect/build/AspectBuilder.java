@@ -50,12 +50,13 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     private final List<IAspectUpdateListener.Before> beforeUpdateListeners;
     private final List<IAspectUpdateListener.After> afterUpdateListeners;
     private final AspectUpdateType updateType;
+    private final boolean writeEveryUpdate;
 
     private AspectBuilder(boolean read, T valueType, List<String> kinds, IAspectProperties defaultAspectProperties,
                           List<IAspectValuePropagator> valuePropagators, List<IAspectWriteActivator> writeActivators,
                           List<IAspectWriteDeactivator> writeDeactivators, ModBase mod, ModBase modGui,
                           List<IAspectUpdateListener.Before> beforeUpdateListeners, List<IAspectUpdateListener.After> afterUpdateListeners,
-                          AspectUpdateType updateType) {
+                          AspectUpdateType updateType, boolean writeEveryUpdate) {
         this.read = read;
         this.valueType = valueType;
         this.kinds = kinds;
@@ -68,6 +69,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         this.beforeUpdateListeners = beforeUpdateListeners;
         this.afterUpdateListeners = afterUpdateListeners;
         this.updateType = updateType;
+        this.writeEveryUpdate = writeEveryUpdate;
     }
 
     /**
@@ -99,7 +101,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -119,7 +121,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -139,7 +141,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -163,7 +165,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -187,7 +189,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -207,7 +209,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -227,7 +229,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -247,7 +249,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 Helpers.joinList(beforeUpdateListeners, listener),
                 Helpers.joinList(afterUpdateListeners, null),
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -267,7 +269,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 Helpers.joinList(beforeUpdateListeners, null),
                 Helpers.joinList(afterUpdateListeners, listener),
-                updateType);
+                updateType, writeEveryUpdate);
     }
 
     /**
@@ -290,7 +292,30 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType, writeEveryUpdate);
+    }
+
+    /**
+     * Let the writer aspect write on every update, even if the variable value did not change since the last write.
+     * This should be used for aspects that cause an effect on every write, instead of only setting some state.
+     * @return The new builder instance.
+     */
+    public AspectBuilder<V, T, O> writeEveryUpdate() {
+        if(this.read) {
+            throw new RuntimeException("Writing on every update is only applicable to writers.");
+        }
+        return new AspectBuilder<>(
+                this.read, this.valueType,
+                Helpers.joinList(this.kinds, null),
+                this.defaultAspectProperties,
+                Helpers.joinList(this.valuePropagators, null),
+                Helpers.joinList(writeActivators, null),
+                Helpers.joinList(writeDeactivators, null),
+                mod,
+                modGui,
+                beforeUpdateListeners,
+                afterUpdateListeners,
+                updateType, true);
     }
 
     /**
@@ -323,7 +348,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Pair<PartTarget, IAspectProperties>> forReadType(T valueType) {
         return new AspectBuilder<>(true, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK, false);
     }
 
     /**
@@ -336,7 +361,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Triple<PartTarget, IAspectProperties, IVariable<V>>> forWriteType(T valueType) {
         return new AspectBuilder<>(false, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK, false);
     }
 
     private static class BuiltReader<V extends IValue, T extends IValueType<V>> extends AspectReadBase<V, T> {
@@ -395,6 +420,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         private final List<IAspectWriteDeactivator> writeDeactivators;
         private final List<IAspectUpdateListener.Before> beforeUpdateListeners;
         private final List<IAspectUpdateListener.After> afterUpdateListeners;
+        private final boolean writeEveryUpdate;
 
         public BuiltWriter(AspectBuilder<V, T, V> aspectBuilder) {
             super(aspectBuilder.mod, aspectBuilder.modGui,
@@ -405,6 +431,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             this.writeDeactivators = aspectBuilder.writeDeactivators;
             this.beforeUpdateListeners = aspectBuilder.beforeUpdateListeners;
             this.afterUpdateListeners = aspectBuilder.afterUpdateListeners;
+            this.writeEveryUpdate = aspectBuilder.writeEveryUpdate;
         }
 
         protected static <V extends IValue, T extends IValueType<V>> String deriveUnlocalizedType(AspectBuilder<V, T, V> aspectBuilder) {
@@ -421,6 +448,11 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             return valueType;
         }
 
+        @Override
+        public boolean isWriteEveryUpdate() {
+            return writeEveryUpdate;
+        }
+
         @Override
         public <P extends IPartTypeWriter<P, S>, S extends IPartStateWriter<P>> void write(P partType, PartTarget target, S state, IVariable<V> variable) throws EvaluationException {
             IAspectProperties properties = hasProperties() ? getProperties(partType, target, state) : null;
@@ -7,19 +7,24 @@ import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.Container;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
-import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -45,6 +50,7 @@ import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.PartStateActiveVariableBase;
 import org.cyclops.integrateddynamics.inventory.container.ContainerPartDisplay;
+import org.cyclops.integrateddynamics.network.packet.PartPanelDisplayStatePacket;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -71,8 +77,10 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         actions.put(VariableContentsUpdatedEvent.class, new IEventAction<P, S, VariableContentsUpdatedEvent>() {
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
-                IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                if (event.isPartAffected(state.getId())) {
+                    IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -134,7 +142,7 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         if(!ValueHelpers.areValuesEqual(lastValue, newValue)) {
             onValueChanged(network, partNetwork, target, state, lastValue, newValue);
 
-            // We can't call state.sendUpdate() here, so we must trigger a block update manually.
+            // We can't call state.sendUpdate() here, so we must send the new value to the client manually.
             // This was the cause of issue #46 which made it so that values that change after one tick are
             // NOT sent to the client.
             // This was because in each server tick, all tiles are first updated and then the networks.
@@ -146,9 +154,48 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             // tick-1: Tile tick: notices and update, marks a block invalidate
             // tick-1: Part tick: update the value again, the old value has still not been sent here!
             // tick-1: -- send all block updates to client --- This will contain the value that was set in tick-1.
+            // Instead of resending the whole part container, only the display state of this part is sent.
             state.onDirty();
-            BlockHelpers.markForUpdate(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+            state.setDisplayStateDirty(true);
+        }
+
+        // Values that change faster than the sync interval are coalesced, only the latest one is sent.
+        if (state.isDisplayStateDirty()) {
+            long time = target.getCenter().getPos().getWorld().getTotalWorldTime();
+            if (time - state.getLastDisplayStateSync() >= GeneralConfig.panelSyncInterval) {
+                if (sendDisplayState(target, state)) {
+                    state.setLastDisplayStateSync(time);
+                }
+                state.setDisplayStateDirty(false);
+            }
+        }
+    }
+
+    /**
+     * Send the display value and errors of the given part to all players that are watching it.
+     * If no player is watching it, nothing is sent,
+     * as players that start watching it later will receive the full part state.
+     * @param target The part target.
+     * @param state The part state.
+     * @return If the state was sent to at least one player.
+     */
+    protected boolean sendDisplayState(PartTarget target, S state) {
+        World world = target.getCenter().getPos().getWorld();
+        PartPanelDisplayStatePacket packet = null;
+        if (world instanceof WorldServer) {
+            BlockPos pos = target.getCenter().getPos().getBlockPos();
+            // Only look at the players that watch the chunk, instead of checking all players in the world.
+            PlayerChunkMapEntry entry = ((WorldServer) world).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
+            if (entry != null) {
+                for (EntityPlayerMP player : entry.getWatchingPlayers()) {
+                    if (packet == null) {
+                        packet = new PartPanelDisplayStatePacket(pos, target.getCenter().getSide(), state);
+                    }
+                    IntegratedDynamics._instance.getPacketHandler().sendToPlayer(packet, player);
+                }
+            }
         }
+        return packet != null;
     }
 
     @Override
@@ -279,6 +326,12 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Getter
         @Setter
         private EnumFacing facingRotation = EnumFacing.NORTH;
+        @Getter
+        @Setter
+        private boolean displayStateDirty = false;
+        @Getter
+        @Setter
+        private long lastDisplayStateSync = Long.MIN_VALUE / 2;
 
         public State() {
             super(1);
@@ -287,25 +340,53 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Override
         public void writeToNBT(NBTTagCompound tag) {
             super.writeToNBT(tag);
-            IValue value = getDisplayValue();
-            if(value != null) {
-                tag.setString("displayValueType", value.getType().getTranslationKey());
-                tag.setString("displayValue", ValueHelpers.serializeRaw(value));
-            }
+            writeDisplayValue(tag);
             tag.setInteger("facingRotation", facingRotation.ordinal());
         }
 
         @Override
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
+            readDisplayValue(tag);
+            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
+        }
+
+        /**
+         * Write the part of this state that is shown to clients, being the display value and the errors.
+         * @param tag The tag to write to.
+         */
+        public void writeDisplayState(NBTTagCompound tag) {
+            writeGlobalErrors(tag);
+            writeDisplayValue(tag);
+        }
+
+        /**
+         * Read the part of this state that is shown to clients, being the display value and the errors.
+         * @param tag The tag to read from.
+         */
+        public void readDisplayState(NBTTagCompound tag) {
+            readGlobalErrors(tag);
+            readDisplayValue(tag);
+        }
+
+        protected void writeDisplayValue(NBTTagCompound tag) {
+            IValue value = getDisplayValue();
+            if(value != null) {
+                tag.setString("displayValueType", value.getType().getTranslationKey());
+                tag.setTag("displayValue", ValueHelpers.serializeNbt(value));
+            }
+        }
+
+        protected void readDisplayValue(NBTTagCompound tag) {
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                    && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                    && tag.hasKey("displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
                 if(valueType != null) {
-                    String serializedValue = tag.getString("displayValue");
-                    L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
+                    NBTBase serializedValue = tag.getTag("displayValue");
+                    L10NHelpers.UnlocalizedString deserializationError = serializedValue instanceof NBTTagString
+                            ? valueType.canDeserialize(((NBTTagString) serializedValue).getString()) : null;
                     if(deserializationError == null) {
-                        setDisplayValue(ValueHelpers.deserializeRaw(valueType, serializedValue));
+                        setDisplayValue(ValueHelpers.deserializeNbt(valueType, serializedValue));
                     } else {
                         IntegratedDynamics.clog(Level.ERROR, deserializationError.localize());
                     }
@@ -317,7 +398,6 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             } else {
                 setDisplayValue(null);
             }
-            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
         }
     }
 
@@ -5,16 +5,19 @@ import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.CollectionHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.persist.nbt.NBTClassType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
+import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
 import org.cyclops.integrateddynamics.api.part.write.IPartTypeWriter;
 import org.cyclops.integrateddynamics.core.part.PartStateActiveVariableBase;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +32,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
     private IAspectWrite activeAspect = null;
     private Map<String, List<L10NHelpers.UnlocalizedString>> errorMessages = Maps.newHashMap();
     private boolean firstTick = true;
+    private IValue lastWrittenValue = null;
 
     public PartStateWriterBase(int inventorySize) {
         super(inventorySize);
@@ -74,6 +78,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
     @Override
     public void triggerAspectInfoUpdate(P partType, PartTarget target, IAspectWrite newAspect) {
         onVariableContentsUpdated(partType, target);
+        setLastWrittenValue(null);
         IAspectWrite activeAspect = getActiveAspect();
         if(activeAspect != null && activeAspect != newAspect) {
             activeAspect.onDeactivate(partType, target, this);
@@ -88,6 +93,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
     public void onVariableContentsUpdated(P partType, PartTarget target) {
         // Resets the errors for this aspect
         super.onVariableContentsUpdated(partType, target);
+        setLastWrittenValue(null);
         IAspectWrite activeAspect = getActiveAspect();
         if(activeAspect != null) {
             addError(activeAspect, null);
@@ -128,6 +134,30 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
         return false;
     }
 
+    @Nullable
+    @Override
+    public IValue getLastWrittenValue() {
+        return lastWrittenValue;
+    }
+
+    @Override
+    public void setLastWrittenValue(@Nullable IValue value) {
+        this.lastWrittenValue = value;
+    }
+
+    @Override
+    public void setDeactivated(boolean deactivated) {
+        super.setDeactivated(deactivated);
+        // Write again once the aspect is (re)activated, as the target may have been changed in the meantime.
+        setLastWrittenValue(null);
+    }
+
+    @Override
+    public void setAspectProperties(IAspect aspect, IAspectProperties properties) {
+        super.setAspectProperties(aspect, properties);
+        setLastWrittenValue(null);
+    }
+
     public static class Validator implements IVariableFacade.IValidator {
 
         private final IPartStateWriter state;
@@ -30,6 +30,7 @@ import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
@@ -40,6 +41,7 @@ import org.cyclops.integrateddynamics.part.aspect.Aspects;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * An abstract {@link IPartTypeWriter}.
@@ -64,8 +66,10 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         actions.put(VariableContentsUpdatedEvent.class, new IEventAction<P, S, VariableContentsUpdatedEvent>() {
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
-                IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                if (event.isPartAffected(state.getId())) {
+                    IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -156,16 +160,20 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
             }
         }
         IAspectWrite aspect = activeIndex == -1 ? null : getWriteAspects().get(activeIndex);
+        INetwork network = NetworkHelpers.getNetwork(target.getCenter());
+        IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+
+        // This writer is refreshed directly, other parts are only notified if they depend on the old or new variables.
+        Set<Integer> variableIds = PartHelpers.getContainedVariableIds(network, partNetwork, target, partState);
         partState.triggerAspectInfoUpdate((P) this, target, aspect);
+        variableIds.addAll(PartHelpers.getContainedVariableIds(network, partNetwork, target, partState));
 
-        INetwork network = NetworkHelpers.getNetwork(target.getCenter());
         if (aspect != null) {
-            IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
             MinecraftForge.EVENT_BUS.post(new PartWriterAspectEvent<>(network, partNetwork, target, (P) this, partState, player,
                     aspect, partState.getInventory().getStackInSlot(activeIndex)));
         }
         if (network != null) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+            network.getEventBus().post(new VariableContentsUpdatedEvent(network, variableIds));
         }
     }
 
@@ -0,0 +1,75 @@
+package org.cyclops.integrateddynamics.core.tileentity;
+
+import com.google.common.collect.Maps;
+import net.minecraft.util.EnumFacing;
+import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
+
+import java.util.Map;
+
+/**
+ * Collects the neighbour notifications for redstone level changes of multipart tiles during the network tick.
+ *
+ * When multiple redstone writers change their level within the same tick, each tile only notifies
+ * its neighbour at each side once, after all networks have been updated.
+ * Outside of the network tick, notifications are sent immediately.
+ * @author rubensworks
+ */
+public final class RedstoneNotifications {
+
+    private static final Map<TileMultipartTicking, EnumFacingMap<Boolean>> PENDING = Maps.newLinkedHashMap();
+    private static boolean batching = false;
+
+    private RedstoneNotifications() {
+
+    }
+
+    /**
+     * Start collecting notifications, this should be called before the networks are updated.
+     */
+    public static void begin() {
+        batching = true;
+    }
+
+    /**
+     * Notify the neighbour at the given side of the given tile of a redstone level change.
+     * @param tile The tile of which the redstone level changed.
+     * @param side The side at which the level changed.
+     * @param strongPower If the new level is emitted as strong power.
+     */
+    public static void notify(TileMultipartTicking tile, EnumFacing side, boolean strongPower) {
+        if (!batching) {
+            tile.notifyRedstoneNeighbours(side, strongPower);
+            return;
+        }
+        EnumFacingMap<Boolean> sides = PENDING.get(tile);
+        if (sides == null) {
+            sides = EnumFacingMap.newMap();
+            PENDING.put(tile, sides);
+        }
+        // If the power was strong at any point during this tick, the neighbours of the target must be notified as well.
+        Boolean pendingStrongPower = sides.get(side);
+        sides.put(side, strongPower || (pendingStrongPower != null && pendingStrongPower));
+    }
+
+    /**
+     * Stop collecting and send all collected notifications, this should be called after the networks are updated.
+     */
+    public static void flush() {
+        batching = false;
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        // Copy, as notified blocks may change redstone levels again.
+        Map<TileMultipartTicking, EnumFacingMap<Boolean>> pending = Maps.newLinkedHashMap(PENDING);
+        PENDING.clear();
+        for (Map.Entry<TileMultipartTicking, EnumFacingMap<Boolean>> entry : pending.entrySet()) {
+            TileMultipartTicking tile = entry.getKey();
+            if (!tile.isInvalid() && tile.getWorld() != null) {
+                for (Map.Entry<EnumFacing, Boolean> sideEntry : entry.getValue().entrySet()) {
+                    tile.notifyRedstoneNeighbours(sideEntry.getKey(), sideEntry.getValue());
+                }
+            }
+        }
+    }
+
+}
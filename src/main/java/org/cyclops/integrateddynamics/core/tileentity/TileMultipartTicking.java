@@ -197,6 +197,15 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
 
     public void updateRedstoneInfo(EnumFacing side, boolean strongPower) {
         this.markDirty();
+        RedstoneNotifications.notify(this, side, strongPower);
+    }
+
+    /**
+     * Notify the neighbour at the given side of a redstone level change.
+     * @param side The side at which the level changed.
+     * @param strongPower If the level is emitted as strong power.
+     */
+    public void notifyRedstoneNeighbours(EnumFacing side, boolean strongPower) {
         if (getWorld().isBlockLoaded(getPos().offset(side))) {
             getWorld().neighborChanged(getPos().offset(side), getBlockType(), getPos());
             if (strongPower) {
@@ -18,12 +18,15 @@ import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 import org.cyclops.integrateddynamics.core.inventory.container.ContainerMultipart;
 import org.cyclops.integrateddynamics.core.inventory.container.slot.SlotVariable;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.event.PartVariableDrivenVariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.panel.PartTypePanelVariableDriven;
 
+import java.util.Set;
+
 /**
  * Container for display parts.
  * @author rubensworks
@@ -90,11 +93,13 @@ public class ContainerPartDisplay<P extends PartTypePanelVariableDriven<P, S>, S
     @Override
     public void onDirty() {
         if(!MinecraftHelpers.isClientSide()) {
-            getPartState().onVariableContentsUpdated(getPartType(), getTarget());
             INetwork network = NetworkHelpers.getNetwork(getTarget().getCenter());
+            IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+            Set<Integer> variableIds = PartHelpers.getContainedVariableIds(network, partNetwork, getTarget(), getPartState());
+            getPartState().onVariableContentsUpdated(getPartType(), getTarget());
+            variableIds.addAll(PartHelpers.getContainedVariableIds(network, partNetwork, getTarget(), getPartState()));
             if (!getPartState().getInventory().isEmpty()) {
                 try {
-                    IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
                     IVariable variable = getPartState().getVariable(network, partNetwork);
                     MinecraftForge.EVENT_BUS.post(new PartVariableDrivenVariableContentsUpdatedEvent<>(network, partNetwork, getTarget(),
                             getPartType(), getPartState(), getPlayer(), variable, variable != null ? variable.getValue() : null));
@@ -103,7 +108,7 @@ public class ContainerPartDisplay<P extends PartTypePanelVariableDriven<P, S>, S
                 }
             }
             if (network != null) {
-                network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+                network.getEventBus().post(new VariableContentsUpdatedEvent(network, variableIds));
             }
         }
     }
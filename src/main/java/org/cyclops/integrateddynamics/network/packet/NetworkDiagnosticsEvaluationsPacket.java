@@ -0,0 +1,66 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import com.google.common.collect.Lists;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.core.network.diagnostics.GuiNetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.network.diagnostics.RawEvaluationData;
+
+import java.util.List;
+
+/**
+ * Packet for sending evaluation profiling data to a player.
+ * Only the {@link #MAX_EVALUATIONS} first entries are sent.
+ * @author rubensworks
+ *
+ */
+public class NetworkDiagnosticsEvaluationsPacket extends PacketCodec {
+
+    public static final int MAX_EVALUATIONS = 100;
+
+    @CodecField
+    private NBTTagCompound evaluationData;
+
+    public NetworkDiagnosticsEvaluationsPacket() {
+
+    }
+
+    public NetworkDiagnosticsEvaluationsPacket(List<RawEvaluationData> evaluations) {
+		NBTTagList list = new NBTTagList();
+		for (RawEvaluationData evaluation : evaluations.subList(0, Math.min(MAX_EVALUATIONS, evaluations.size()))) {
+			list.appendTag(evaluation.toNbt());
+		}
+		this.evaluationData = new NBTTagCompound();
+		this.evaluationData.setTag("evaluations", list);
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		List<RawEvaluationData> evaluations = Lists.newArrayList();
+		NBTTagList list = evaluationData.getTagList("evaluations", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+		for (int i = 0; i < list.tagCount(); i++) {
+			evaluations.add(RawEvaluationData.fromNbt(list.getCompoundTagAt(i)));
+		}
+		GuiNetworkDiagnostics.setEvaluationData(evaluations);
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+	
+}
@@ -0,0 +1,74 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartState;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.part.panel.PartTypePanelVariableDriven;
+
+/**
+ * Packet for updating the display value and errors of a single panel part at the client,
+ * without resending the whole part container.
+ * @author rubensworks
+ *
+ */
+public class PartPanelDisplayStatePacket extends PacketCodec {
+
+    @CodecField
+    private int x;
+    @CodecField
+    private int y;
+    @CodecField
+    private int z;
+    @CodecField
+    private int side;
+    @CodecField
+    private NBTTagCompound displayState;
+
+    public PartPanelDisplayStatePacket() {
+
+    }
+
+    public PartPanelDisplayStatePacket(BlockPos pos, EnumFacing side, PartTypePanelVariableDriven.State<?, ?> state) {
+        this.x = pos.getX();
+        this.y = pos.getY();
+        this.z = pos.getZ();
+        this.side = side.ordinal();
+        this.displayState = new NBTTagCompound();
+        state.writeDisplayState(this.displayState);
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		BlockPos pos = new BlockPos(x, y, z);
+		EnumFacing side = EnumFacing.VALUES[this.side];
+		IPartContainer partContainer = PartHelpers.getPartContainer(world, pos, side);
+		if (partContainer != null && partContainer.hasPart(side)) {
+			IPartState partState = partContainer.getPartState(side);
+			if (partState instanceof PartTypePanelVariableDriven.State) {
+				((PartTypePanelVariableDriven.State<?, ?>) partState).readDisplayState(displayState);
+			}
+		}
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+
+}
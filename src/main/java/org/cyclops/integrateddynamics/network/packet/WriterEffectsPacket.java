@@ -0,0 +1,118 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import com.mojang.text2speech.Narrator;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+
+import java.util.Random;
+
+/**
+ * Packet for playing all sounds, particles and spoken texts of writers in a single tick at a player.
+ * @author rubensworks
+ *
+ */
+public class WriterEffectsPacket extends PacketCodec {
+
+    public static final String TYPE_SOUND = "sound";
+    public static final String TYPE_PARTICLE = "particle";
+    public static final String TYPE_TEXT = "text";
+
+    private static final Random RANDOM = new Random();
+
+    @CodecField
+    private NBTTagCompound effectsData;
+
+    public WriterEffectsPacket() {
+
+    }
+
+    public WriterEffectsPacket(NBTTagList effects) {
+		this.effectsData = new NBTTagCompound();
+		this.effectsData.setTag("effects", effects);
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		NBTTagList list = effectsData.getTagList("effects", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+		for (int i = 0; i < list.tagCount(); i++) {
+			NBTTagCompound tag = list.getCompoundTagAt(i);
+			double x = tag.getDouble("x");
+			double y = tag.getDouble("y");
+			double z = tag.getDouble("z");
+			switch (tag.getString("type")) {
+				case TYPE_SOUND:
+					playSound(world, x, y, z, tag);
+					break;
+				case TYPE_PARTICLE:
+					spawnParticle(world, x, y, z, tag);
+					break;
+				case TYPE_TEXT:
+					Narrator.getNarrator().say(tag.getString("text"));
+					break;
+			}
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	protected void playSound(World world, double x, double y, double z, NBTTagCompound tag) {
+		SoundEvent soundEvent = SoundEvent.REGISTRY.getObject(new ResourceLocation(tag.getString("sound")));
+		if (soundEvent != null) {
+			world.playSound(x, y, z, soundEvent, SoundCategory.values()[tag.getInteger("category")],
+					tag.getFloat("volume"), tag.getFloat("pitch"), false);
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	protected void spawnParticle(World world, double x, double y, double z, NBTTagCompound tag) {
+		EnumParticleTypes particle = EnumParticleTypes.getParticleFromId(tag.getInteger("particle"));
+		if (particle == null) {
+			return;
+		}
+		boolean force = tag.getBoolean("force");
+		int count = tag.getInteger("count");
+		double xSpread = tag.getDouble("xSpread");
+		double ySpread = tag.getDouble("ySpread");
+		double zSpread = tag.getDouble("zSpread");
+		double velocity = tag.getDouble("velocity");
+		int[] arguments = tag.getIntArray("arguments");
+		// Same as the client-side handling of particle packets
+		if (count == 0) {
+			world.spawnParticle(particle, force, x, y, z,
+					velocity * xSpread, velocity * ySpread, velocity * zSpread, arguments);
+		} else {
+			for (int i = 0; i < count; i++) {
+				world.spawnParticle(particle, force,
+						x + RANDOM.nextGaussian() * xSpread,
+						y + RANDOM.nextGaussian() * ySpread,
+						z + RANDOM.nextGaussian() * zSpread,
+						RANDOM.nextGaussian() * velocity,
+						RANDOM.nextGaussian() * velocity,
+						RANDOM.nextGaussian() * velocity, arguments);
+			}
+		}
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+
+}
@@ -16,7 +16,6 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.StringUtils;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -29,7 +28,6 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.LocationHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.GeneralConfig;
@@ -56,11 +54,11 @@ import org.cyclops.integrateddynamics.core.evaluate.operator.PositionedOperatorR
 import org.cyclops.integrateddynamics.core.evaluate.operator.PositionedOperatorRecipeHandlerRecipesByInput;
 import org.cyclops.integrateddynamics.core.evaluate.operator.PositionedOperatorRecipeHandlerRecipesByOutput;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
-import org.cyclops.integrateddynamics.core.helper.EnergyHelpers;
 import org.cyclops.integrateddynamics.core.helper.Helpers;
+import org.cyclops.integrateddynamics.core.part.aspect.TargetSnapshots;
+import org.cyclops.integrateddynamics.core.part.aspect.WriterEffects;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
-import org.cyclops.integrateddynamics.network.packet.SpeakTextPacket;
 import org.cyclops.integrateddynamics.part.aspect.read.AspectReadBuilders;
 import org.cyclops.integrateddynamics.part.aspect.write.AspectWriteBuilders;
 
@@ -164,16 +162,14 @@ public class Aspects {
                             .handle(AspectReadBuilders.PROP_GET_INTEGER, "itemframerotation").buildRead();
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_ENTITIES =
                     AspectReadBuilders.Entity.BUILDER_LIST.handle(dimPos -> {
-                        List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), EntitySelectors.NOT_SPECTATING);
+                        List<net.minecraft.entity.Entity> entities = TargetSnapshots.getEntities(dimPos, EntitySelectors.NOT_SPECTATING);
                         return ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, Lists.transform(entities,
                             ValueObjectTypeEntity.ValueEntity::of
                         ));
                     }).appendKind("entities").buildRead();
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_PLAYERS =
                     AspectReadBuilders.Entity.BUILDER_LIST.handle(dimPos -> {
-                        List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), Helpers.SELECTOR_IS_PLAYER);
+                        List<net.minecraft.entity.Entity> entities = TargetSnapshots.getEntities(dimPos, Helpers.SELECTOR_IS_PLAYER);
                         return ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, Lists.transform(entities,
                             ValueObjectTypeEntity.ValueEntity::of
                         ));
@@ -183,8 +179,7 @@ public class Aspects {
                     AspectReadBuilders.Entity.BUILDER_ENTITY.withProperties(AspectReadBuilders.LIST_PROPERTIES).handle(input -> {
                         int i = input.getRight().getValue(AspectReadBuilders.PROPERTY_LISTINDEX).getRawValue();
                         DimPos dimPos = input.getLeft().getTarget().getPos();
-                        List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), EntitySelectors.NOT_SPECTATING);
+                        List<net.minecraft.entity.Entity> entities = TargetSnapshots.getEntities(dimPos, EntitySelectors.NOT_SPECTATING);
                         return ValueObjectTypeEntity.ValueEntity.of(i < entities.size() ? entities.get(i) : null);
                     }).buildRead();
 
@@ -331,89 +326,41 @@ public class Aspects {
 
         public static final class Inventory {
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_FULL =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(inventory -> {
-                        if(inventory != null) {
-                            for (int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if (itemStack.isEmpty()) {
-                                    return false;
-                                }
-                            }
-                        }
-                        return true;
-                    }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "full").buildRead();
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(
+                        inventory -> inventory == null || inventory.getFilledSlots() == inventory.getSlots()
+                    ).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "full").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_EMPTY =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(inventory -> {
-                        if(inventory != null) {
-                            for(int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if(!itemStack.isEmpty()) {
-                                    return false;
-                                }
-                            }
-                        }
-                        return true;
-                    }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "empty").buildRead();
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(
+                        inventory -> inventory == null || inventory.getFilledSlots() == 0
+                    ).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "empty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_NONEMPTY =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(inventory -> {
-                        if(inventory != null) {
-                            for(int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if(!itemStack.isEmpty()) {
-                                    return true;
-                                }
-                            }
-                        }
-                        return false;
-                    }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "nonempty").buildRead();
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(
+                        inventory -> inventory != null && inventory.getFilledSlots() > 0
+                    ).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "nonempty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_APPLICABLE =
                     AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(
                         Objects::nonNull
                     ).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "applicable").buildRead();
 
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_COUNT =
-                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(inventory -> {
-                        int count = 0;
-                        if(inventory != null) {
-                            for (int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if (!itemStack.isEmpty()) {
-                                    count += itemStack.getCount();
-                                }
-                            }
-                        }
-                        return count;
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "count").buildRead();
+                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(
+                        inventory -> inventory != null ? inventory.getCount() : 0
+                    ).handle(AspectReadBuilders.PROP_GET_INTEGER, "count").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_SLOTS =
                     AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(
                         inventory -> inventory != null ? inventory.getSlots() : 0
                     ).handle(AspectReadBuilders.PROP_GET_INTEGER, "slots").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_SLOTSFILLED =
-                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(inventory -> {
-                        int count = 0;
-                        if(inventory != null) {
-                            for (int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if (!itemStack.isEmpty()) {
-                                    count++;
-                                }
-                            }
-                        }
-                        return count;
-                    }).handle(AspectReadBuilders.PROP_GET_INTEGER, "slotsfilled").buildRead();
+                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(
+                        inventory -> inventory != null ? inventory.getFilledSlots() : 0
+                    ).handle(AspectReadBuilders.PROP_GET_INTEGER, "slotsfilled").buildRead();
 
             public static final IAspectRead<ValueTypeDouble.ValueDouble, ValueTypeDouble> DOUBLE_FILLRATIO =
                     AspectReadBuilders.Inventory.BUILDER_DOUBLE.handle(inventory -> {
-                        int count = 0;
-                        if(inventory != null) {
-                            for (int i = 0; i < inventory.getSlots(); i++) {
-                                ItemStack itemStack = inventory.getStackInSlot(i);
-                                if (!itemStack.isEmpty()) {
-                                    count++;
-                                }
-                            }
+                        if(inventory == null) {
+                            return 0D;
                         }
-                        return ((double) count) / (double) (inventory != null ? inventory.getSlots() : 1);
+                        return ((double) inventory.getFilledSlots()) / (double) inventory.getSlots();
                     }).handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
 
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_ITEMSTACKS =
@@ -529,7 +476,7 @@ public class Aspects {
             }
 
             public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IEnergyStorage>
-                    PROP_GET = input -> EnergyHelpers.getEnergyStorage(input.getLeft().getTarget());
+                    PROP_GET = input -> TargetSnapshots.getEnergyStorage(input.getLeft().getTarget());
 
             public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IEnergyStorage>
                     BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "fe");
@@ -776,7 +723,7 @@ public class Aspects {
 
                                     if (soundEvent != null) {
                                         World world = input.getLeft().getTarget().getPos().getWorld();
-                                        world.playSound(null,
+                                        WriterEffects.playSound(world,
                                                 (double) pos.getX() + 0.5D, (double) pos.getY() + 0.5D, (double) pos.getZ() + 0.5D,
                                                 soundEvent, SoundCategory.RECORDS, volume, f);
                                     }
@@ -792,9 +739,7 @@ public class Aspects {
                                 BlockPos pos = input.getLeft().getTarget().getPos().getBlockPos();
                                 if(!StringUtils.isNullOrEmpty(input.getRight())) {
                                     int range = properties.getValue(AspectWriteBuilders.Audio.PROP_RANGE).getRawValue();
-                                    IntegratedDynamics._instance.getPacketHandler().sendToAllAround(
-                                            new SpeakTextPacket(input.getRight()),
-                                            LocationHelpers.createTargetPointFromLocation(world, pos, range));
+                                    WriterEffects.speakText(world, pos, input.getRight(), range);
                                 }
                                 return null;
                             }, "text").buildWrite();
@@ -828,7 +773,7 @@ public class Aspects {
                             for (int i = 0; i < aint.length; i++) {
                                 aint[i] = 0;
                             }
-                            ((WorldServer) pos.getPos().getWorld()).spawnParticle(
+                            WriterEffects.spawnParticle((WorldServer) pos.getPos().getWorld(),
                                     particle, force, x, y, z, numberOfParticles,
                                     xDir, yDir, zDir, velocity, aint);
                             return null;
@@ -849,12 +794,14 @@ public class Aspects {
                     AspectWriteBuilders.Redstone.BUILDER_BOOLEAN
                             .withProperties(AspectWriteBuilders.Redstone.PROPERTIES_REDSTONE_PULSE)
                             .appendKind("pulse")
+                            .writeEveryUpdate()
                             .handle(input -> Triple.of(input.getLeft(), input.getMiddle(), input.getRight() ? 15 : 0)
                     ).handle(AspectWriteBuilders.Redstone.PROP_SET_PULSE).buildWrite();
             public static final IAspectWrite<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_PULSE =
                     AspectWriteBuilders.Redstone.BUILDER_INTEGER
                             .withProperties(AspectWriteBuilders.Redstone.PROPERTIES_REDSTONE_PULSE)
                             .appendKind("pulse")
+                            .writeEveryUpdate()
                             .handle(AspectWriteBuilders.Redstone.PROP_SET_PULSE).buildWrite();
 
         }
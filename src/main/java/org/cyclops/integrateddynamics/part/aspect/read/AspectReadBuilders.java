@@ -9,18 +9,13 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import net.minecraftforge.fml.common.FMLCommonHandler;
-import net.minecraftforge.items.CapabilityItemHandler;
-import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 import org.cyclops.commoncapabilities.api.capability.block.BlockCapabilities;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
@@ -32,7 +27,6 @@ import org.cyclops.integrateddynamics.Capabilities;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
-import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
@@ -40,6 +34,7 @@ import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.part.aspect.TargetSnapshots;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
 import org.cyclops.integrateddynamics.core.part.aspect.property.AspectProperties;
@@ -220,22 +215,18 @@ public class AspectReadBuilders {
         }
 
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties[]> PROP_GET = input -> {
-            DimPos dimPos = input.getLeft().getTarget().getPos();
-            IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
-                    CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
-            if(fluidHandler != null) {
-                return fluidHandler.getTankProperties();
+            TargetSnapshots.FluidSnapshot fluid = TargetSnapshots.getFluid(input.getLeft().getTarget());
+            if(fluid != null) {
+                return fluid.getTankProperties();
             }
             return new IFluidTankProperties[0];
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IFluidTankProperties> PROP_GET_ACTIVATABLE = input -> {
-            DimPos dimPos = input.getLeft().getTarget().getPos();
-            IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
-                    CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
-            if(fluidHandler != null) {
-                IFluidTankProperties[] tankInfo = fluidHandler.getTankProperties();
+            TargetSnapshots.FluidSnapshot fluid = TargetSnapshots.getFluid(input.getLeft().getTarget());
+            if(fluid != null) {
+                IFluidTankProperties[] tankInfo = fluid.getTankProperties();
                 int i = input.getRight().getValue(PROP_TANKID).getRawValue();
-                if(tankInfo != null && i < tankInfo.length) {
+                if(i < tankInfo.length) {
                     return tankInfo[i];
                 }
             }
@@ -275,27 +266,24 @@ public class AspectReadBuilders {
             PROPERTIES.setValue(PROPERTY_SLOTID, ValueTypeInteger.ValueInteger.of(0)); // Not required in this case, but we do this here just as an example on how to set default values.
         }
 
-        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IItemHandler> PROP_GET = input -> {
-            PartPos target = input.getLeft().getTarget();
-            return TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
-        };
+        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, TargetSnapshots.InventorySnapshot> PROP_GET =
+                input -> TargetSnapshots.getInventory(input.getLeft().getTarget());
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ItemStack> PROP_GET_SLOT = input -> {
-            PartPos target = input.getLeft().getTarget();
-            IItemHandler itemHandler = TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+            TargetSnapshots.InventorySnapshot inventory = TargetSnapshots.getInventory(input.getLeft().getTarget());
             int slotId = input.getRight().getValue(PROPERTY_SLOTID).getRawValue();
-            if(itemHandler != null && slotId >= 0 && slotId < itemHandler.getSlots()) {
-                return itemHandler.getStackInSlot(slotId);
+            if(inventory != null && slotId >= 0 && slotId < inventory.getSlots()) {
+                return inventory.getStackInSlot(slotId);
             }
             return ItemStack.EMPTY;
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ValueTypeList.ValueList>
                 PROP_GET_LIST = input -> ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyPositionedInventory(input.getLeft().getTarget().getPos(), input.getLeft().getTarget().getSide()));
 
-        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IItemHandler>
+        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, TargetSnapshots.InventorySnapshot>
                 BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "inventory");
-        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IItemHandler>
+        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, TargetSnapshots.InventorySnapshot>
                 BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET, "inventory");
-        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, IItemHandler>
+        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, TargetSnapshots.InventorySnapshot>
                 BUILDER_DOUBLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET, "inventory");
         public static final AspectBuilder<ValueObjectTypeItemStack.ValueItemStack, ValueObjectTypeItemStack, ItemStack>
                 BUILDER_ITEMSTACK = BUILDER_OBJECT_ITEMSTACK.handle(PROP_GET_SLOT, "inventory").withProperties(PROPERTIES);
@@ -446,8 +434,7 @@ public class AspectReadBuilders {
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, EntityItemFrame> PROP_GET_ITEMFRAME = pair -> {
             DimPos dimPos = pair.getLeft().getTarget().getPos();
             EnumFacing facing = pair.getLeft().getTarget().getSide();
-            List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                    new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), ENTITY_SELECTOR_ITEMFRAME);
+            List<net.minecraft.entity.Entity> entities = TargetSnapshots.getEntities(dimPos, ENTITY_SELECTOR_ITEMFRAME);
             for(net.minecraft.entity.Entity entity : entities) {
                 if(EnumFacing.fromAngle(((EntityItemFrame) entity).rotationYaw) == facing.getOpposite()) {
                     return ((EntityItemFrame) entity);
@@ -55,7 +55,9 @@ public abstract class AspectWriteBase<V extends IValue, T extends IValueType<V>>
                 onActivate(partTypeWriter, target, writerState);
             }
             try {
-                write(partTypeWriter, target, writerState, variable);
+                if (isWriteEveryUpdate() || checkAndSetLastWrittenValue(writerState, variable.getValue())) {
+                    write(partTypeWriter, target, writerState, variable);
+                }
             } catch (EvaluationException e) {
                 writerState.addError(this, new L10NHelpers.UnlocalizedString(e.getLocalizedMessage()));
                 writerState.setDeactivated(true);
@@ -75,6 +77,23 @@ public abstract class AspectWriteBase<V extends IValue, T extends IValueType<V>>
         state.setDeactivated(true);
     }
 
+    /**
+     * Check if the given value differs from the value that was last written for the given state,
+     * in which case it is remembered as the new last written value.
+     * The write is skipped otherwise, unless the aspect writes on every update.
+     * @param state The writer state.
+     * @param value The current variable value.
+     * @return If the value must be written.
+     */
+    public static boolean checkAndSetLastWrittenValue(IPartStateWriter<?> state, IValue value) {
+        IValue lastWrittenValue = state.getLastWrittenValue();
+        if (lastWrittenValue != null && (lastWrittenValue == value || lastWrittenValue.equals(value))) {
+            return false;
+        }
+        state.setLastWrittenValue(value);
+        return true;
+    }
+
     protected String getUnlocalizedType() {
         return "write" + unlocalizedTypeSuffix;
     }
@@ -25,6 +25,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTy
 import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
 import org.cyclops.integrateddynamics.api.part.write.IPartTypeWriter;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
+import org.cyclops.integrateddynamics.core.part.aspect.WriterEffects;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectWriteDeactivator;
@@ -140,7 +141,7 @@ public class AspectWriteBuilders {
                 if (!net.minecraftforge.common.MinecraftForge.EVENT_BUS.post(e)) {
                     float f = (float) Math.pow(2.0D, (double) (eventParam - 12) / 12.0D);
                     float volume = (float) properties.getValue(PROP_VOLUME).getRawValue();
-                    world.playSound(null,
+                    WriterEffects.playSound(world,
                             (double) pos.getX() + 0.5D, (double) pos.getY() + 0.5D, (double) pos.getZ() + 0.5D,
                             getInstrument(eventID), SoundCategory.RECORDS, volume, f);
                 }
@@ -154,11 +155,11 @@ public class AspectWriteBuilders {
         }
 
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, Triple<PartTarget, IAspectProperties, Integer>>
-                BUILDER_INTEGER = AspectWriteBuilders.BUILDER_INTEGER.appendKind("audio").handle(PROP_GET_INTEGER);
+                BUILDER_INTEGER = AspectWriteBuilders.BUILDER_INTEGER.appendKind("audio").writeEveryUpdate().handle(PROP_GET_INTEGER);
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, Triple<PartTarget, IAspectProperties, Integer>>
                 BUILDER_INTEGER_INSTRUMENT = BUILDER_INTEGER.appendKind("instrument").withProperties(PROPERTIES_NOTE);
         public static final AspectBuilder<ValueTypeString.ValueString, ValueTypeString, Triple<PartTarget, IAspectProperties, String>>
-                BUILDER_STRING = AspectWriteBuilders.BUILDER_STRING.appendKind("audio").handle(PROP_GET_STRING);
+                BUILDER_STRING = AspectWriteBuilders.BUILDER_STRING.appendKind("audio").writeEveryUpdate().handle(PROP_GET_STRING);
 
     }
 
@@ -203,7 +204,7 @@ public class AspectWriteBuilders {
         }
 
         public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, Triple<PartTarget, IAspectProperties, Double>>
-                BUILDER_DOUBLE = AspectWriteBuilders.BUILDER_DOUBLE.appendKind("effect").handle(PROP_GET_DOUBLE);
+                BUILDER_DOUBLE = AspectWriteBuilders.BUILDER_DOUBLE.appendKind("effect").writeEveryUpdate().handle(PROP_GET_DOUBLE);
         public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, Triple<PartTarget, IAspectProperties, Double>>
                 BUILDER_DOUBLE_PARTICLE = BUILDER_DOUBLE.withProperties(PROPERTIES_PARTICLE);
 
@@ -34,6 +34,7 @@ public class CommonProxy extends CommonProxyComponent {
         packetHandler.register(LogicProgrammerValueTypeOperatorValueChangedPacket.class);
         packetHandler.register(NetworkDiagnosticsSubscribePacket.class);
         packetHandler.register(NetworkDiagnosticsNetworkPacket.class);
+        packetHandler.register(NetworkDiagnosticsEvaluationsPacket.class);
         packetHandler.register(NetworkDiagnosticsOpenClient.class);
         packetHandler.register(PlayerTeleportPacket.class);
         packetHandler.register(LogicProgrammerValueTypeSlottedValueChangedPacket.class);
@@ -41,6 +42,8 @@ public class CommonProxy extends CommonProxyComponent {
         packetHandler.register(LogicProgrammerValueTypeIngredientsValueChangedPacket.class);
         packetHandler.register(LogicProgrammerValueTypeRecipeValueChangedPacket.class);
         packetHandler.register(SpeakTextPacket.class);
+        packetHandler.register(PartPanelDisplayStatePacket.class);
+        packetHandler.register(WriterEffectsPacket.class);
 
         IntegratedDynamics.clog("Registered packet handler.");
     }
@@ -529,4 +529,21 @@ public class TestArithmeticOperators {
         Operators.ARITHMETIC_MINIMUM.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    /**
+     * ----------------------------------- INTERNING -----------------------------------
+     */
+
+    @Test
+    public void testSmallValuesInterned() throws EvaluationException {
+        assertThat("small integers are reused", ValueTypeInteger.ValueInteger.of(100) == ValueTypeInteger.ValueInteger.of(100), is(true));
+        assertThat("large integers are equal", ValueTypeInteger.ValueInteger.of(100000), is(ValueTypeInteger.ValueInteger.of(100000)));
+        assertThat("small longs are reused", ValueTypeLong.ValueLong.of(-5L) == ValueTypeLong.ValueLong.of(-5L), is(true));
+        assertThat("small doubles are reused", ValueTypeDouble.ValueDouble.of(3D) == ValueTypeDouble.ValueDouble.of(3D), is(true));
+        assertThat("negative zero is not reused", ValueTypeDouble.ValueDouble.of(-0D).getRawValue(), is(-0D));
+        assertThat("fractions are not reused", ValueTypeDouble.ValueDouble.of(0.5D).getRawValue(), is(0.5D));
+
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        assertThat("10 + 15 is reused", res1 == ValueTypeInteger.ValueInteger.of(25), is(true));
+    }
+
 }
@@ -0,0 +1,108 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Maps;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.network.diagnostics.EvaluationProfiler;
+import org.cyclops.integrateddynamics.core.network.diagnostics.RawEvaluationData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the evaluation profiler.
+ * @author rubensworks
+ */
+public class TestEvaluationProfiler {
+
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i10;
+    private DummyVariableInteger i15;
+
+    @Before
+    public void before() {
+        i1  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1 ));
+        i10 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        i15 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(15));
+        EvaluationProfiler.reset();
+    }
+
+    @After
+    public void after() {
+        EvaluationProfiler.setEnabled(false);
+        EvaluationProfiler.reset();
+    }
+
+    @Test
+    public void testOperators() throws EvaluationException {
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        assertThat("nothing is recorded when disabled", EvaluationProfiler.getData().isEmpty(), is(true));
+
+        EvaluationProfiler.setEnabled(true);
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i1, i15});
+        EvaluationProfiler.setEnabled(false);
+
+        List<RawEvaluationData> data = EvaluationProfiler.getData();
+        assertThat(data.size(), is(1));
+        assertThat(data.get(0).getType(), is(RawEvaluationData.TYPE_OPERATOR));
+        assertThat(data.get(0).getName(), is(Operators.ARITHMETIC_ADDITION.getUniqueName()));
+        assertThat(data.get(0).getInvocations(), is(2L));
+    }
+
+    @Test
+    public void testSharedExpressions() throws EvaluationException {
+        Map<Integer, IValue> values = Maps.newHashMap();
+        ILazyExpressionValueCache cache = new ILazyExpressionValueCache() {
+            @Override
+            public void setValue(int id, IValue value) {
+                values.put(id, value);
+            }
+
+            @Override
+            public boolean hasValue(int id) {
+                return values.containsKey(id);
+            }
+
+            @Override
+            public IValue getValue(int id) {
+                return values.get(id);
+            }
+
+            @Override
+            public void removeValue(int id) {
+                values.remove(id);
+            }
+        };
+        // Expressions that are shared between variables have an id of their own.
+        LazyExpression<ValueTypeInteger.ValueInteger> sum = new LazyExpression<>(Integer.MIN_VALUE, Operators.ARITHMETIC_ADDITION, new IVariable[]{i10, i15}, cache);
+        sum.addProfiledVariableId(5);
+        sum.addProfiledVariableId(7);
+        sum.addProfiledVariableId(5);
+
+        EvaluationProfiler.setEnabled(true);
+        sum.getValue();
+        EvaluationProfiler.setEnabled(false);
+
+        Map<String, Long> invocations = Maps.newHashMap();
+        for (RawEvaluationData entry : EvaluationProfiler.getData()) {
+            if (RawEvaluationData.TYPE_VARIABLE.equals(entry.getType())) {
+                invocations.put(entry.getName(), entry.getInvocations());
+            }
+        }
+        assertThat("evaluations are recorded for the variables", invocations.size(), is(2));
+        assertThat(invocations.get("5"), is(1L));
+        assertThat(invocations.get("7"), is(1L));
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationWatchdog;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the evaluation watchdog.
+ * @author rubensworks
+ */
+public class TestEvaluationWatchdog {
+
+    private int elementLimit;
+    private ExecutorService executor;
+
+    @Before
+    public void before() {
+        elementLimit = GeneralConfig.evaluationElementLimit;
+        GeneralConfig.evaluationElementLimit = 100;
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.evaluationElementLimit = elementLimit;
+        executor.shutdown();
+    }
+
+    protected static void checkElements(int count) {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        for (int i = 0; i < count; i++) {
+            watchdog.checkElement();
+        }
+    }
+
+    @Test
+    public void testForkSharesElementBudget() throws Exception {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        watchdog.enter();
+        try {
+            checkElements(50);
+            EvaluationWatchdog.Fork fork = watchdog.fork();
+
+            // A part on another thread continues with the elements of the calling thread.
+            executor.submit(() -> EvaluationWatchdog.get().evaluateInFork(fork, () -> {
+                checkElements(40);
+                return null;
+            })).get();
+
+            // A part on the calling thread does not modify the state of its own evaluation.
+            try {
+                watchdog.evaluateInFork(fork, () -> {
+                    checkElements(20);
+                    return null;
+                });
+                fail("The element limit was not exceeded within the fork.");
+            } catch (EvaluationWatchdog.LimitExceededException e) {
+                // Expected
+            }
+            watchdog.checkElement();
+
+            // Once joined, the calling thread takes over the elements and the error.
+            watchdog.join(fork);
+            try {
+                watchdog.checkElement();
+                fail("The element limit was not exceeded after joining.");
+            } catch (EvaluationWatchdog.LimitExceededException e) {
+                // Expected
+            }
+        } finally {
+            watchdog.exit();
+        }
+    }
+
+    @Test
+    public void testForkSharesError() throws Exception {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        watchdog.enter();
+        try {
+            EvaluationWatchdog.Fork fork = watchdog.fork();
+            try {
+                executor.submit(() -> EvaluationWatchdog.get().evaluateInFork(fork, () -> {
+                    checkElements(101);
+                    return null;
+                })).get();
+                fail("The element limit was not exceeded within the fork.");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(EvaluationWatchdog.LimitExceededException.class));
+            }
+
+            // Other parts of the same fork fail as well.
+            try {
+                executor.submit(() -> EvaluationWatchdog.get().evaluateInFork(fork, () -> {
+                    EvaluationWatchdog.get().checkInvocation();
+                    return null;
+                })).get();
+                fail("The error of the fork was not shared.");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(EvaluationException.class));
+            }
+        } finally {
+            watchdog.exit();
+        }
+    }
+
+    @Test
+    public void testOperatorDepthPerThread() throws Exception {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        Object operator = new Object();
+        assertThat(watchdog.enterOperator(operator), is(0));
+        assertThat(watchdog.enterOperator(operator), is(1));
+        assertThat("other operators have their own depth", watchdog.enterOperator(new Object()), is(0));
+
+        // Other threads do not count towards the depth of this thread.
+        assertThat(executor.submit(() -> EvaluationWatchdog.get().enterOperator(operator)).get(), is(0));
+
+        watchdog.exitOperator(operator);
+        watchdog.exitOperator(operator);
+        assertThat("the depth is reset once all invocations have exited", watchdog.enterOperator(operator), is(0));
+        watchdog.exitOperator(operator);
+    }
+
+    @Test
+    public void testForkInheritsOperatorDepth() throws Exception {
+        EvaluationWatchdog watchdog = EvaluationWatchdog.get();
+        Object operator = new Object();
+        watchdog.enter();
+        watchdog.enterOperator(operator);
+        try {
+            EvaluationWatchdog.Fork fork = watchdog.fork();
+            // Parts of a fork continue the evaluation stack of the calling thread.
+            assertThat(executor.submit(() -> EvaluationWatchdog.get().evaluateInFork(fork,
+                    () -> EvaluationWatchdog.get().enterOperator(operator))).get(), is(1));
+            assertThat(executor.submit(() -> EvaluationWatchdog.get().evaluateInFork(fork,
+                    () -> EvaluationWatchdog.get().enterOperator(operator))).get(), is(1));
+
+            // A part on the calling thread does not modify the depths of its own evaluation.
+            watchdog.evaluateInFork(fork, () -> watchdog.enterOperator(operator));
+            assertThat(watchdog.enterOperator(operator), is(1));
+            watchdog.exitOperator(operator);
+        } finally {
+            watchdog.exitOperator(operator);
+            watchdog.exit();
+        }
+    }
+
+    @Test
+    public void testNoFork() throws EvaluationException {
+        assertThat("no fork is created outside of an evaluation", EvaluationWatchdog.get().fork() == null, is(true));
+        assertThat("parts without fork are evaluated", EvaluationWatchdog.get().evaluateInFork(null, () -> 1), is(1));
+    }
+
+}
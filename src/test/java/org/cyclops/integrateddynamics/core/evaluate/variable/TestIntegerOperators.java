@@ -23,17 +23,21 @@ public class TestIntegerOperators {
 
     private DummyVariableInteger i0;
     private DummyVariableInteger i1;
+    private DummyVariableInteger im1;
     private DummyVariableInteger im10;
     private DummyVariableInteger i10;
     private DummyVariableInteger i15;
+    private DummyVariableInteger im15;
 
     @Before
     public void before() {
         i0   = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0  ));
         i1   = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1  ));
+        im1  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(-1 ));
         im10 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(-10));
         i10  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10 ));
         i15  = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(15 ));
+        im15 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(-15));
     }
 
     /**
@@ -60,6 +64,16 @@ public class TestIntegerOperators {
 
         IValue res6 = Operators.INTEGER_MODULUS.evaluate(new IVariable[]{i15, i10});
         assertThat("15 % 10 = 1", ((ValueTypeInteger.ValueInteger) res6).getRawValue(), is(5));
+
+        IValue res7 = Operators.INTEGER_MODULUS.evaluate(new IVariable[]{i10, im15});
+        assertThat("10 % -15 = 10", ((ValueTypeInteger.ValueInteger) res7).getRawValue(), is(10));
+        assertThat("10 % -15 returns its first input", res7 == i10.getValue(), is(true));
+
+        IValue res8 = Operators.INTEGER_MODULUS.evaluate(new IVariable[]{im10, i15});
+        assertThat("-10 % 15 = -10", ((ValueTypeInteger.ValueInteger) res8).getRawValue(), is(-10));
+
+        IValue res9 = Operators.INTEGER_MODULUS.evaluate(new IVariable[]{i15, im1});
+        assertThat("15 % -1 = 0", ((ValueTypeInteger.ValueInteger) res9).getRawValue(), is(0));
     }
 
     @Test(expected = EvaluationException.class)
@@ -1,16 +1,39 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.properties.PropertyBool;
+import net.minecraft.block.state.BlockStateContainer;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.FluidTankProperties;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeDefinition;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javax.annotation.Nullable;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -20,6 +43,7 @@ import static org.junit.Assert.assertThat;
 public class TestListOperators {
 
     private static final DummyValueType DUMMY_TYPE = DummyValueType.TYPE;
+    private static final PropertyBool PROPERTY_UNSAVED = PropertyBool.create("unsaved");
     private static final DummyVariable<DummyValueType.DummyValue> DUMMY_VARIABLE =
             new DummyVariable<DummyValueType.DummyValue>(DUMMY_TYPE, DummyValueType.DummyValue.of());
 
@@ -535,6 +559,23 @@ public class TestListOperators {
         assertThat("lazybuilt([0, 1, 2], 3).size = 3", list.getLength(), is(Integer.MAX_VALUE));
     }
 
+    @Test
+    public void testListLazyBuiltFarElements() throws EvaluationException {
+        IValue res1 = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oIntegerIncrement});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res1).getRawValue();
+
+        assertThat("lazybuilt(3, ++)[500000] = 500003", list.get(500000).getRawValue(), is(500003));
+        assertThat("lazybuilt(3, ++)[123456] = 123459", list.get(123456).getRawValue(), is(123459));
+        assertThat("lazybuilt(3, ++)[7] = 10", list.get(7).getRawValue(), is(10));
+        int i = 0;
+        for (ValueTypeInteger.ValueInteger value : list) {
+            assertThat(value.getRawValue(), is(i + 3));
+            if (++i > 200) {
+                break;
+            }
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeLazyBuiltInvalidType() throws EvaluationException {
         Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oRelationalEquals});
@@ -683,6 +724,133 @@ public class TestListOperators {
         assertThat("uniq([0, 1, 2, 3, 1, 2, 3, 2, 3, 3]).size = 4", list.getLength(), is(4));
     }
 
+    @Test
+    public void testListMaterializedIndex() throws EvaluationException {
+        ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = new ValueTypeListProxyMaterialized<>(
+                ValueTypes.INTEGER, Lists.newArrayList(ValueTypeInteger.ValueInteger.of(3), ValueTypeInteger.ValueInteger.of(1),
+                ValueTypeInteger.ValueInteger.of(3), ValueTypeInteger.ValueInteger.of(2)));
+        DummyVariableList llist = new DummyVariableList(ValueTypeList.ValueList.ofFactory(list));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat("contains([3, 1, 3, 2], 3) = true", ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{llist, i3})).getRawValue(), is(true));
+            assertThat("contains([3, 1, 3, 2], 0) = false", ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{llist, i0})).getRawValue(), is(false));
+            assertThat("count([3, 1, 3, 2], 3) = 2", ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{llist, i3})).getRawValue(), is(2));
+            assertThat("count([3, 1, 3, 2], 4) = 0", ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{llist, i4})).getRawValue(), is(0));
+        }
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> uniq = ((ValueTypeList.ValueList) Operators.LIST_UNIQ.evaluate(new IVariable[]{llist})).getRawValue();
+        assertThat("uniq([3, 1, 3, 2]).size = 3", uniq.getLength(), is(3));
+        assertThat("uniq([3, 1, 3, 2])[0] = 3", uniq.get(0).getRawValue(), is(3));
+        assertThat("uniq([3, 1, 3, 2])[2] = 2", uniq.get(2).getRawValue(), is(2));
+
+        assertThat("hash codes are stable", list.hashCode(), is(list.hashCode()));
+        assertThat("equal lists are equal", list, is(new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, Lists.newArrayList(
+                ValueTypeInteger.ValueInteger.of(3), ValueTypeInteger.ValueInteger.of(1),
+                ValueTypeInteger.ValueInteger.of(3), ValueTypeInteger.ValueInteger.of(2)))));
+    }
+
+    @Test
+    public void testListPersistent() throws EvaluationException, IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IVariable list = lempty;
+        for (int i = 0; i < 1000; i++) {
+            list = new DummyVariableList((ValueTypeList.ValueList) Operators.LIST_APPEND.evaluate(
+                    new IVariable[]{list, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(i))}));
+        }
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> appended = ((ValueTypeList.ValueList) list.getValue()).getRawValue();
+        assertThat("appended list is persistent", appended, instanceOf(ValueTypeListProxyPersistent.class));
+        assertThat("appended.size = 1000", appended.getLength(), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat("appended[i] = i", appended.get(i).getRawValue(), is(i));
+        }
+        int expected = 0;
+        for (ValueTypeInteger.ValueInteger value : appended) {
+            assertThat("iterated values are in order", value.getRawValue(), is(expected++));
+        }
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> concat = ((ValueTypeList.ValueList) Operators.LIST_CONCAT.evaluate(
+                new IVariable[]{list, lintegers})).getRawValue();
+        assertThat("concat.size = 1004", concat.getLength(), is(1004));
+        assertThat("concat[999] = 999", concat.get(999).getRawValue(), is(999));
+        assertThat("concat[1003] = 3", concat.get(1003).getRawValue(), is(3));
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> slice = ((ValueTypeList.ValueList) Operators.LIST_SLICE.evaluate(
+                new IVariable[]{list, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(100)), new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2000))})).getRawValue();
+        assertThat("slice.size = 900", slice.getLength(), is(900));
+        assertThat("slice[0] = 100", slice.get(0).getRawValue(), is(100));
+        assertThat("slice[899] = 999", slice.get(899).getRawValue(), is(999));
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> tail = ((ValueTypeList.ValueList) Operators.LIST_TAIL.evaluate(
+                new IVariable[]{list})).getRawValue();
+        assertThat("tail.size = 999", tail.getLength(), is(999));
+        assertThat("tail[0] = 1", tail.get(0).getRawValue(), is(1));
+
+        String serialized = ValueTypeListProxyFactories.REGISTRY.serialize(slice);
+        assertThat("slice is serialized as materialized list", serialized.startsWith(ValueTypeListProxyFactories.MATERIALIZED.getName()), is(true));
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> deserialized = ValueTypeListProxyFactories.REGISTRY.deserialize(serialized);
+        assertThat("deserialized slice equals slice", deserialized, is(slice));
+        assertThat("deserialized slice hash equals slice hash", deserialized.hashCode(), is(slice.hashCode()));
+
+        NBTTagCompound serializedNbt = (NBTTagCompound) ValueTypeListProxyFactories.REGISTRY.serializeNbt(slice);
+        assertThat("slice nbt is serialized as materialized list", serializedNbt.getString("proxyName"), is(ValueTypeListProxyFactories.MATERIALIZED.getName()));
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> deserializedNbt = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(serializedNbt);
+        assertThat("deserialized nbt slice equals slice", deserializedNbt, is(slice));
+    }
+
+    @Test
+    public void testListMaterializedBlocks() throws EvaluationException {
+        // Two states that share their block and meta, but differ in a property that is not stored in the meta.
+        Block block = new Block(Material.ROCK) {
+            @Override
+            protected BlockStateContainer createBlockState() {
+                return new BlockStateContainer(this, PROPERTY_UNSAVED);
+            }
+
+            @Override
+            public int getMetaFromState(IBlockState state) {
+                return 0;
+            }
+        };
+        ValueObjectTypeBlock.ValueBlock blockA = ValueObjectTypeBlock.ValueBlock.of(block.getDefaultState().withProperty(PROPERTY_UNSAVED, false));
+        ValueObjectTypeBlock.ValueBlock blockB = ValueObjectTypeBlock.ValueBlock.of(block.getDefaultState().withProperty(PROPERTY_UNSAVED, true));
+        assertThat("blocks with the same meta are equal", blockA, is(blockB));
+        assertThat("blocks with the same meta have the same hash code", blockA.hashCode(), is(blockB.hashCode()));
+
+        ValueTypeListProxyMaterialized<ValueObjectTypeBlock, ValueObjectTypeBlock.ValueBlock> listA = new ValueTypeListProxyMaterialized<>(
+                ValueTypes.OBJECT_BLOCK, Lists.newArrayList(blockA, blockA));
+        ValueTypeListProxyMaterialized<ValueObjectTypeBlock, ValueObjectTypeBlock.ValueBlock> listB = new ValueTypeListProxyMaterialized<>(
+                ValueTypes.OBJECT_BLOCK, Lists.newArrayList(blockB, blockB));
+        DummyVariableList llistA = new DummyVariableList(ValueTypeList.ValueList.ofFactory(listA));
+        DummyVariable<ValueObjectTypeBlock.ValueBlock> vblockB = new DummyVariable<>(ValueTypes.OBJECT_BLOCK, blockB);
+
+        assertThat("contains([a, a], b) = true", ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{llistA, vblockB})).getRawValue(), is(true));
+        assertThat("count([a, a], b) = 2", ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{llistA, vblockB})).getRawValue(), is(2));
+        assertThat("[a, a] = [b, b]", listA.equals(listB), is(true));
+        assertThat("block lists are indexed", listA.getIndex().isIndexable(), is(true));
+        assertThat("uniq([a, a, b, b]).size = 1", ((ValueTypeList.ValueList) Operators.LIST_UNIQ.evaluate(new IVariable[]{
+                new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_BLOCK, Lists.newArrayList(blockA, blockA, blockB, blockB)))
+        })).getRawValue().getLength(), is(1));
+    }
+
+    @Test
+    public void testListPersistentIndex() throws EvaluationException {
+        IValue appended = Operators.LIST_APPEND.evaluate(new IVariable[]{lintegers_rev_dup, i3});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) appended).getRawValue();
+        assertThat("appended lists are persistent", list, instanceOf(ValueTypeListProxyPersistent.class));
+        assertThat("appended lists are indexed", ValueTypeListIndex.of(list) != null, is(true));
+
+        DummyVariableList lappended = new DummyVariableList((ValueTypeList.ValueList) appended);
+        assertThat("contains(append(list, 3), 3) = true", ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{lappended, i3})).getRawValue(), is(true));
+        assertThat("count(append(list, 3), 3) = 2", ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{lappended, i3})).getRawValue(), is(2));
+        assertThat("count(append(list, 3), 0) = 4", ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{lappended, i0})).getRawValue(), is(4));
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> unique = ((ValueTypeList.ValueList) Operators.LIST_UNIQ.evaluate(new IVariable[]{lappended})).getRawValue();
+        assertThat("uniq(append(list, 3)).size = 4", unique.getLength(), is(4));
+        assertThat("uniq(append(list, 3))[0] = 3", unique.get(0).getRawValue(), is(3));
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> materialized = new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, Lists.newArrayList(list));
+        assertThat("persistent lists equal materialized lists", list.equals(materialized), is(true));
+        assertThat("persistent lists hash like materialized lists", list.hashCode(), is(materialized.hashCode()));
+    }
+
     @Test
     public void testListUniqOrder() throws EvaluationException {
         IValue res1 = Operators.LIST_UNIQ.evaluate(new IVariable[]{lintegers_rev_dup});
@@ -751,6 +919,17 @@ public class TestListOperators {
         assertThat("slice([0, 1, 2, 3], 3, 5).size = 1", list3.getLength(), is(1));
     }
 
+    @Test(expected = EvaluationException.class)
+    public void testContainsInfiniteElementLimit() throws EvaluationException {
+        int limit = GeneralConfig.evaluationElementLimit;
+        GeneralConfig.evaluationElementLimit = 1000;
+        try {
+            Operators.LIST_CONTAINS.evaluate(new IVariable[]{lintegers_inf, im1});
+        } finally {
+            GeneralConfig.evaluationElementLimit = limit;
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeSliceNegative1() throws EvaluationException {
         Operators.LIST_SLICE.evaluate(new IVariable[]{lintegers, i0, im1});
@@ -781,4 +960,162 @@ public class TestListOperators {
         Operators.LIST_SLICE.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    /**
+     * ----------------------------------- PROXIES -----------------------------------
+     */
+
+    @Test
+    public void testMappedIteratorReusesElements() throws EvaluationException {
+        IOperator prefix = ((ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.STRING_CONCAT)), sx})).getRawValue();
+        ValueTypeListProxyOperatorMapped mapped = new ValueTypeListProxyOperatorMapped(prefix, labc.getValue().getRawValue());
+
+        IValue first = mapped.get(0);
+        List<IValue> iterated = Lists.newArrayList(mapped);
+        assertThat("map(x+, [a, b, c]).size = 3", iterated.size(), is(3));
+        assertThat("map(x+, [a, b, c])[2] = xc", ((ValueTypeString.ValueString) iterated.get(2)).getRawValue(), is("xc"));
+        assertThat("iteration reuses elements that were mapped by index", iterated.get(0), sameInstance(first));
+        assertThat("indexed access reuses elements that were mapped by iteration", mapped.get(1), sameInstance(iterated.get(1)));
+        assertThat("a second iteration reuses all elements", Lists.newArrayList(mapped).get(2), sameInstance(iterated.get(2)));
+
+        ValueTypeListProxyOperatorMapped other = new ValueTypeListProxyOperatorMapped(prefix, labc.getValue().getRawValue());
+        assertThat("other proxies map their elements again", other.get(0), not(sameInstance(first)));
+        assertThat("other proxies map to equal elements", other.get(0), is(first));
+    }
+
+    @Test
+    public void testFilterStreams() throws EvaluationException {
+        int[] gets = {0};
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> source = new ValueTypeListProxyBase<ValueTypeInteger, ValueTypeInteger.ValueInteger>("counting", ValueTypes.INTEGER) {
+            @Override
+            public int getLength() {
+                return 4;
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger get(int index) {
+                gets[0]++;
+                return ValueTypeInteger.ValueInteger.of(index);
+            }
+        };
+        DummyVariableOperator isZero = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oRelationalEquals, i0}));
+
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> filtered = ((ValueTypeList.ValueList)
+                Operators.OPERATOR_FILTER.evaluate(new IVariable[]{isZero, new DummyVariableList(ValueTypeList.ValueList.ofFactory(source))})).getRawValue();
+        Iterator<ValueTypeInteger.ValueInteger> it = filtered.iterator();
+        assertThat("filter(0==, [0, 1, 2, 3])[0] = 0", it.next().getRawValue(), is(0));
+        assertThat("only the consumed elements are retrieved", gets[0], is(1));
+
+        assertThat("filter(0==, [0, 1, 2, 3]).size = 1", Lists.newArrayList(filtered).size(), is(1));
+        int getsAfterIteration = gets[0];
+        assertThat("filter(0==, [0, 1, 2, 3]).size = 1", filtered.getLength(), is(1));
+        assertThat("filter(0==, [0, 1, 2, 3])[0] = 0", filtered.get(0).getRawValue(), is(0));
+        assertThat("a completed iteration is reused", gets[0], is(getsAfterIteration));
+    }
+
+    @Test
+    public void testTankIterators() throws EvaluationException {
+        DummyFluidHandler tank = new DummyFluidHandler(new FluidTankProperties(null, 1000), new FluidTankProperties(null, 2000));
+        ValueTypeListProxyPositionedTankCapacities capacities = new ValueTypeListProxyPositionedTankCapacities() {
+            @Override
+            protected IFluidHandler getTank() {
+                return tank;
+            }
+        };
+        ValueTypeListProxyPositionedTankFluidStacks fluidStacks = new ValueTypeListProxyPositionedTankFluidStacks() {
+            @Override
+            protected IFluidHandler getTank() {
+                return tank;
+            }
+        };
+
+        List<ValueTypeInteger.ValueInteger> capacityValues = Lists.newArrayList(capacities);
+        assertThat("tank properties are retrieved once per iteration", tank.calls, is(1));
+        assertThat("capacities.size = 2", capacityValues.size(), is(2));
+        assertThat("capacities[0] = 1000", capacityValues.get(0).getRawValue(), is(1000));
+        assertThat("capacities[1] = 2000", capacityValues.get(1).getRawValue(), is(2000));
+
+        List<ValueObjectTypeFluidStack.ValueFluidStack> fluidValues = Lists.newArrayList(fluidStacks);
+        assertThat("tank properties are retrieved once per iteration", tank.calls, is(2));
+        assertThat("fluids.size = 2", fluidValues.size(), is(2));
+        assertThat("fluids[1] is empty", fluidValues.get(1), is(ValueObjectTypeFluidStack.ValueFluidStack.of(null)));
+    }
+
+    @Test
+    public void testRecipeIterator() throws EvaluationException {
+        List<IRecipeDefinition> recipes = Lists.newArrayList(createDummyRecipe(), createDummyRecipe(), createDummyRecipe());
+        int[] calls = {0};
+        IRecipeHandler recipeHandler = (IRecipeHandler) Proxy.newProxyInstance(IRecipeHandler.class.getClassLoader(),
+                new Class[]{IRecipeHandler.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getRecipes")) {
+                        calls[0]++;
+                        return recipes;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        ValueTypeListProxyPositionedRecipes list = new ValueTypeListProxyPositionedRecipes() {
+            @Override
+            protected IRecipeHandler getRecipeHandler() {
+                return recipeHandler;
+            }
+        };
+
+        List<ValueObjectTypeRecipe.ValueRecipe> values = Lists.newArrayList(list);
+        assertThat("recipes are retrieved once per iteration", calls[0], is(1));
+        assertThat("recipes.size = 3", values.size(), is(3));
+        for (int i = 0; i < recipes.size(); i++) {
+            assertThat("recipes are iterated in order", values.get(i).getRawValue().get(), sameInstance(recipes.get(i)));
+        }
+    }
+
+    private static IRecipeDefinition createDummyRecipe() {
+        return (IRecipeDefinition) Proxy.newProxyInstance(IRecipeDefinition.class.getClassLoader(),
+                new Class[]{IRecipeDefinition.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "dummy recipe";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static class DummyFluidHandler implements IFluidHandler {
+
+        private final IFluidTankProperties[] tanks;
+        private int calls = 0;
+
+        public DummyFluidHandler(IFluidTankProperties... tanks) {
+            this.tanks = tanks;
+        }
+
+        @Override
+        public IFluidTankProperties[] getTankProperties() {
+            calls++;
+            return tanks;
+        }
+
+        @Override
+        public int fill(FluidStack resource, boolean doFill) {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(FluidStack resource, boolean doDrain) {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(int maxDrain, boolean doDrain) {
+            return null;
+        }
+    }
+
 }
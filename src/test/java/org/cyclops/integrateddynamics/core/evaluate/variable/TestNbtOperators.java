@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
 import net.minecraft.nbt.*;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -147,6 +148,30 @@ public class TestNbtOperators {
         ));
     }
 
+    /**
+     * ----------------------------------- VALUE -----------------------------------
+     */
+
+    @Test
+    public void testValueIsImmutable() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("a", "a");
+        ValueTypeNbt.ValueNbt value = ValueTypeNbt.ValueNbt.of(tag);
+        int hashCode = value.hashCode();
+
+        // Modifying the tag afterwards, such as the live tag of an item, does not modify the value.
+        tag.setString("a", "b");
+        assertThat(value.getRawValue().getString("a"), is("a"));
+        assertThat(value.hashCode(), is(hashCode));
+        assertThat(value, is(nsasa.getValue()));
+        assertThat(value.equals(ValueTypeNbt.ValueNbt.of(tag)), is(false));
+
+        NBTTagCompound tagCopy = new NBTTagCompound();
+        tagCopy.setString("a", "a");
+        assertThat("values of modified tags are equal to values of equal tags", value.hashCode(), is(ValueTypeNbt.ValueNbt.of(tagCopy).hashCode()));
+        assertThat(value, is(ValueTypeNbt.ValueNbt.of(tagCopy)));
+    }
+
     /**
      * ----------------------------------- SIZE -----------------------------------
      */
@@ -193,6 +218,8 @@ public class TestNbtOperators {
         assertThat("keys({a:a;b:b}).size = 2", ((ValueTypeList.ValueList) res2).getRawValue().getLength(), is(2));
         assertThat("keys({a:a;b:b})[0] = a", ((ValueTypeList.ValueList) res2).getRawValue().get(0), is(ValueTypeString.ValueString.of("a")));
         assertThat("keys({a:a;b:b})[1] = b", ((ValueTypeList.ValueList) res2).getRawValue().get(1), is(ValueTypeString.ValueString.of("b")));
+        assertThat("iterated keys({a:a;b:b}) = [a, b]", Lists.newArrayList(((ValueTypeList.ValueList) res2).getRawValue()),
+                is(Lists.newArrayList(ValueTypeString.ValueString.of("a"), ValueTypeString.ValueString.of("b"))));
     }
 
     @Test(expected = EvaluationException.class)
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -11,6 +13,8 @@ import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
 
@@ -346,6 +350,34 @@ public class TestOperatorOperators {
         assertThat(list4.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.OPERATOR));
     }
 
+    @Test
+    public void testMapMemoized() throws EvaluationException {
+        final int[] fetches = {0};
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> counting =
+                new ValueTypeListProxyBase<ValueTypeInteger, ValueTypeInteger.ValueInteger>(
+                        ValueTypeListProxyFactories.MATERIALIZED.getName(), ValueTypes.INTEGER) {
+            @Override
+            public int getLength() throws EvaluationException {
+                return 4;
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger get(int index) throws EvaluationException {
+                fetches[0]++;
+                return ValueTypeInteger.ValueInteger.of(index);
+            }
+        };
+        DummyVariableList lcounting = new DummyVariableList(ValueTypeList.ValueList.ofFactory(counting));
+        IValue res1 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lcounting});
+        IValueTypeListProxy list1 = ((ValueTypeList.ValueList) res1).getRawValue();
+        assertThat("map([0, 1, 2, 3], ++)[2] == 3", ((ValueTypeInteger.ValueInteger) list1.get(2)).getRawValue(), is(3));
+        assertThat("map([0, 1, 2, 3], ++)[2] == 3", ((ValueTypeInteger.ValueInteger) list1.get(2)).getRawValue(), is(3));
+        assertThat("repeated access is memoized", fetches[0], is(1));
+        list1.hashCode();
+        list1.hashCode();
+        assertThat("iteration fetches each element once", fetches[0], is(4));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeMapLarge() throws EvaluationException {
         Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers, lintegers});
@@ -662,6 +694,41 @@ public class TestOperatorOperators {
         assertThat("++|++|++(2) == 5", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(5));
     }
 
+    @Test
+    public void testPredicatePipeNestedLeft() throws EvaluationException {
+        DummyVariableOperator op = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_PIPE.evaluate(new IVariable[]{new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                        Operators.OPERATOR_PIPE.evaluate(new IVariable[]{oIntegerIncrement, oIntegerIncrement})), oArithmeticAddition}));
+
+        assertThat(op.getValue().getRawValue().getInputTypes().length, is(2));
+
+        IValue res1 = Operators.OPERATOR_APPLY_2.evaluate(op, i2, i3);
+        assertThat("result is an integer", res1, instanceOf(ValueTypeInteger.ValueInteger.class));
+        assertThat("++|++|+(2, 3) == 7", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(7));
+    }
+
+    @Test
+    public void testCurriedFlattened() throws EvaluationException {
+        IValue curried1 = Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oChoice, bFalse});
+        IValue curried2 = Operators.OPERATOR_APPLY.evaluate(new IVariable[]{new DummyVariableOperator((ValueTypeOperator.ValueOperator) curried1), i1});
+        CurriedOperator operator = (CurriedOperator) ((ValueTypeOperator.ValueOperator) curried2).getRawValue();
+        assertThat("nested curried operators are flattened", operator.getBaseOperator(), is(Operators.GENERAL_CHOICE));
+        assertThat("one input remains", operator.getRequiredInputLength(), is(1));
+
+        IValue res1 = Operators.OPERATOR_APPLY.evaluate(new IVariable[]{new DummyVariableOperator((ValueTypeOperator.ValueOperator) curried2), i2});
+        assertThat("false ? 1 : 2 == 2", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(2));
+    }
+
+    @Test
+    public void testFlipTwice() throws EvaluationException {
+        IValue flipped = Operators.OPERATOR_FLIP.evaluate(new IVariable[]{oIntegerModulus});
+        IValue flippedTwice = Operators.OPERATOR_FLIP.evaluate(new IVariable[]{new DummyVariableOperator((ValueTypeOperator.ValueOperator) flipped)});
+        assertThat("flipping twice gives the original operator", ((ValueTypeOperator.ValueOperator) flippedTwice).getRawValue(), is(Operators.INTEGER_MODULUS));
+
+        IValue res1 = Operators.OPERATOR_APPLY_2.evaluate(new DummyVariableOperator((ValueTypeOperator.ValueOperator) flipped), i3, i4);
+        assertThat("flip(%)(3, 4) == 1", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(1));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testPredicatePipeAddAddError() throws EvaluationException {
         DummyVariableOperator op = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
@@ -754,6 +821,22 @@ public class TestOperatorOperators {
         assertThat(".2 id ++ * 3 == 12", ((ValueTypeInteger.ValueInteger) res4).getRawValue(), is(12));
     }
 
+    @Test
+    public void testPredicatePipe2Nested() throws EvaluationException {
+        DummyVariableOperator addTwo = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_PIPE.evaluate(new IVariable[]{oIntegerIncrement, oIntegerIncrement}));
+        DummyVariableOperator addOneAndMultiply = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_PIPE.evaluate(new IVariable[]{oIntegerIncrement, oArithmeticMultiplication}));
+        DummyVariableOperator op = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_PIPE2.evaluate(new IVariable[]{addTwo, oGeneralIdentity, addOneAndMultiply}));
+
+        IValue res1 = Operators.OPERATOR_APPLY.evaluate(new IVariable[]{op, i2});
+        assertThat("result is an integer", res1, instanceOf(ValueTypeInteger.ValueInteger.class));
+        assertThat(".2 (++|++) id (++|*) 2 == 10", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(10));
+        IValue res2 = Operators.OPERATOR_APPLY.evaluate(new IVariable[]{op, i3});
+        assertThat(".2 (++|++) id (++|*) 3 == 18", ((ValueTypeInteger.ValueInteger) res2).getRawValue(), is(18));
+    }
+
     /**
      * ----------------------------------- PREDICATE FLIP -----------------------------------
      */
@@ -931,6 +1014,44 @@ public class TestOperatorOperators {
         assertThat("reduce([0, 1, 2, 3], +, 0) == 6", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(6));
     }
 
+    @Test
+    public void testParallelListOperators() throws EvaluationException {
+        int threshold = GeneralConfig.operatorParallelismThreshold;
+        GeneralConfig.operatorParallelismThreshold = 2;
+        try {
+            List<ValueTypeInteger.ValueInteger> values = Lists.newArrayList();
+            for (int i = 0; i < 1000; i++) {
+                values.add(ValueTypeInteger.ValueInteger.of(i % 7));
+            }
+            DummyVariableList llarge = new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values));
+            DummyVariableOperator twoGreaterThan = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                    Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oRelationalGreaterThan, i2}));
+
+            IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, llarge});
+            IValueTypeListProxy mappedList = ((ValueTypeList.ValueList) mapped).getRawValue();
+            assertThat("map(++) keeps the length", mappedList.getLength(), is(1000));
+            assertThat("map(++)[999] == 6", ((ValueTypeInteger.ValueInteger) mappedList.get(999)).getRawValue(), is(6));
+
+            IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{twoGreaterThan, llarge});
+            IValueTypeListProxy filteredList = ((ValueTypeList.ValueList) filtered).getRawValue();
+            assertThat("filter(2>) keeps all 0s and 1s", filteredList.getLength(), is(286));
+            assertThat("filter(2>) keeps the order", ((ValueTypeInteger.ValueInteger) filteredList.get(2)).getRawValue(), is(0));
+
+            IValue counted = Operators.LIST_COUNT_PREDICATE.evaluate(new IVariable[]{llarge, twoGreaterThan});
+            assertThat("count_p(2>) == 286", ((ValueTypeInteger.ValueInteger) counted).getRawValue(), is(286));
+
+            IValue reduced = Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition, llarge, i1});
+            assertThat("reduce(+, 1) == 2998", ((ValueTypeInteger.ValueInteger) reduced).getRawValue(), is(2998));
+
+            IValue uniq = Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{llarge, oRelationalEquals});
+            IValueTypeListProxy uniqList = ((ValueTypeList.ValueList) uniq).getRawValue();
+            assertThat("uniq_p(==) has 7 elements", uniqList.getLength(), is(7));
+            assertThat("uniq_p(==) keeps the order", ((ValueTypeInteger.ValueInteger) uniqList.get(6)).getRawValue(), is(6));
+        } finally {
+            GeneralConfig.operatorParallelismThreshold = threshold;
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeReduceLarge() throws EvaluationException {
         Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition, lintegers, i0, i0});
@@ -0,0 +1,133 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLongArray;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the NBT serialization of values.
+ */
+public class TestValueSerialization {
+
+    @BeforeClass
+    public static void beforeClass() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    protected static IValue roundTrip(IValue value) {
+        return ValueHelpers.deserialize(ValueHelpers.serialize(value));
+    }
+
+    @Test
+    public void testPrimitives() {
+        assertThat(ValueHelpers.serializeNbt(ValueTypeInteger.ValueInteger.of(10)), instanceOf(NBTTagInt.class));
+        assertThat(roundTrip(ValueTypeInteger.ValueInteger.of(10)), is(ValueTypeInteger.ValueInteger.of(10)));
+        assertThat(roundTrip(ValueTypeBoolean.ValueBoolean.of(true)), is(ValueTypeBoolean.ValueBoolean.of(true)));
+        assertThat(roundTrip(ValueTypeLong.ValueLong.of(Long.MAX_VALUE)), is(ValueTypeLong.ValueLong.of(Long.MAX_VALUE)));
+        assertThat(roundTrip(ValueTypeDouble.ValueDouble.of(0.1D)), is(ValueTypeDouble.ValueDouble.of(0.1D)));
+        assertThat(roundTrip(ValueTypeString.ValueString.of("a\\\"b;c")), is(ValueTypeString.ValueString.of("a\\\"b;c")));
+    }
+
+    @Test
+    public void testNestedLists() {
+        IValue value = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a\"b"));
+        for (int i = 0; i < 20; i++) {
+            value = ValueTypeList.ValueList.ofAll(value, ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("\\")));
+        }
+        assertThat(ValueHelpers.serializeNbt(value), instanceOf(NBTTagCompound.class));
+        assertThat(roundTrip(value), is(value));
+    }
+
+    @Test
+    public void testNestedListsGrowLinearly() {
+        // The string format escapes each nesting level again, the NBT format only adds a constant amount of bytes.
+        IValue value = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a\"b"));
+        int previousSize = 0;
+        int previousGrowth = -1;
+        for (int i = 0; i < 20; i++) {
+            value = ValueTypeList.ValueList.ofAll(value);
+            int size = getWrittenByteSize(ValueHelpers.serialize(value));
+            if (i > 0) {
+                if (previousGrowth >= 0) {
+                    assertThat(size - previousSize, is(previousGrowth));
+                }
+                previousGrowth = size - previousSize;
+            }
+            previousSize = size;
+        }
+    }
+
+    @Test
+    public void testByteSize() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setByte("byte", (byte) 1);
+        tag.setShort("short", (short) 2);
+        tag.setInteger("int", 3);
+        tag.setLong("long", 4L);
+        tag.setFloat("float", 5F);
+        tag.setDouble("double", 6D);
+        tag.setByteArray("bytes", new byte[]{1, 2, 3});
+        tag.setIntArray("ints", new int[]{1, 2, 3});
+        tag.setTag("longs", new NBTTagLongArray(new long[]{1L, 2L, 3L}));
+        tag.setString("string", "a\u0000\u00e9\u20ac");
+        NBTTagList list = new NBTTagList();
+        list.appendTag(new NBTTagString("x"));
+        list.appendTag(new NBTTagString("y"));
+        tag.setTag("list", list);
+        tag.setTag("emptyList", new NBTTagList());
+        NBTTagCompound nested = new NBTTagCompound();
+        nested.setString("\u00e9", "");
+        tag.setTag("compound", nested);
+
+        int size = getWrittenByteSize(tag);
+        assertThat(ValueHelpers.getByteSize(tag, Integer.MAX_VALUE), is(size));
+        assertThat(ValueHelpers.getByteSize(tag, 20) >= 20, is(true));
+        assertThat(ValueHelpers.getByteSize(tag, 20) < size, is(true));
+    }
+
+    protected static int getWrittenByteSize(NBTTagCompound tag) {
+        CountingOutputStream outputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+        try {
+            CompressedStreamTools.write(tag, new DataOutputStream(outputStream));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return (int) outputStream.getCount();
+    }
+
+    @Test
+    public void testHeterogeneousList() {
+        IValue value = ValueTypeList.ValueList.ofList(ValueTypes.CATEGORY_ANY, Arrays.asList(
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeString.ValueString.of("a"), ValueTypeBoolean.ValueBoolean.of(false)));
+        assertThat(roundTrip(value), is(value));
+    }
+
+    @Test
+    public void testLegacyStrings() {
+        IValue integer = ValueTypeInteger.ValueInteger.of(10);
+        assertThat(ValueHelpers.deserializeNbt(ValueTypes.INTEGER, new NBTTagString(ValueHelpers.serializeRaw(integer))), is(integer));
+
+        IValue list = ValueTypeList.ValueList.ofAll(ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2)));
+        NBTTagCompound legacyTag = new NBTTagCompound();
+        legacyTag.setString("valueType", ValueTypes.LIST.getTranslationKey());
+        legacyTag.setString("value", ValueHelpers.serializeRaw(list));
+        assertThat(ValueHelpers.deserialize(legacyTag), is(list));
+    }
+
+}
@@ -1,14 +1,30 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Maps;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ConstantExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.item.OperatorVariableFacade;
+import org.cyclops.integrateddynamics.core.network.PartNetwork;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * Test the different variable types.
@@ -169,4 +185,134 @@ public class TestVariables {
         assertThat("deserializing tag returns tag", stag.getType().deserialize("{abc:1b}"), is(stag.getValue()));
     }
 
+    @Test
+    public void testEntityType() {
+        UUID uuid = UUID.randomUUID();
+        ValueObjectTypeEntity.ValueEntity a = ValueObjectTypeEntity.ValueEntity.of(uuid);
+        ValueObjectTypeEntity.ValueEntity b = ValueObjectTypeEntity.ValueEntity.of(new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        ValueObjectTypeEntity.ValueEntity other = ValueObjectTypeEntity.ValueEntity.of(UUID.randomUUID());
+        ValueObjectTypeEntity.ValueEntity empty = ValueObjectTypeEntity.ValueEntity.of((UUID) null);
+
+        // Comparing entity values does not resolve their entities.
+        assertThat("entities with the same uuid are equal", a, is(b));
+        assertThat("entities with the same uuid have the same hash code", a.hashCode(), is(b.hashCode()));
+        assertThat("entities with another uuid are not equal", a.equals(other), is(false));
+        assertThat("empty entities are not equal to entities", a.equals(empty), is(false));
+        assertThat("empty entities are equal", empty, is(ValueObjectTypeEntity.ValueEntity.of((UUID) null)));
+        assertThat("empty entities resolve to no entity", empty.getRawValue().isPresent(), is(false));
+    }
+
+    @Test
+    public void testLazyExpressionGenerations() throws EvaluationException {
+        Map<Integer, IValue> values = Maps.newHashMap();
+        ILazyExpressionValueCache cache = new ILazyExpressionValueCache() {
+            @Override
+            public void setValue(int id, IValue value) {
+                values.put(id, value);
+            }
+
+            @Override
+            public boolean hasValue(int id) {
+                return values.containsKey(id);
+            }
+
+            @Override
+            public IValue getValue(int id) {
+                return values.get(id);
+            }
+
+            @Override
+            public void removeValue(int id) {
+                values.remove(id);
+            }
+        };
+        MutableVariableInteger a = new MutableVariableInteger(1);
+        DummyVariableInteger b = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        LazyExpression<ValueTypeInteger.ValueInteger> sum = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{a, a}, cache);
+        LazyExpression<ValueTypeInteger.ValueInteger> product = new LazyExpression<>(1, Operators.ARITHMETIC_MULTIPLICATION, new IVariable[]{sum, b}, cache);
+
+        assertThat("expression is evaluated", product.getValue().getRawValue(), is(20));
+        long generation = product.getGeneration();
+        assertThat("expression stays valid without changes", product.getGeneration(), is(generation));
+        assertThat("cached value is reused", product.getValue().getRawValue(), is(20));
+
+        a.setValue(3);
+        assertThat("nested expressions are invalidated by input generations", product.getValue().getRawValue(), is(60));
+        assertThat("generation is incremented after invalidation", product.getGeneration() > generation, is(true));
+
+        b.setValue(ValueTypeInteger.ValueInteger.of(2));
+        product.invalidate();
+        assertThat("explicit invalidation is still possible", product.getValue().getRawValue(), is(12));
+    }
+
+    @Test
+    public void testConstantFolding() throws EvaluationException {
+        Variable<ValueTypeInteger.ValueInteger> c1 = new Variable<>(ValueTypeInteger.ValueInteger.of(1));
+        Variable<ValueTypeInteger.ValueInteger> c2 = new Variable<>(ValueTypeInteger.ValueInteger.of(2));
+        Variable<ValueTypeInteger.ValueInteger> c0 = new Variable<>(ValueTypeInteger.ValueInteger.of(0));
+        DummyVariableInteger d2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+
+        IExpression sum = OperatorVariableFacade.foldConstants(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{c1, c2});
+        assertThat("constant inputs are folded", sum, instanceOf(ConstantExpression.class));
+        assertThat("folded value is evaluated", ((ValueTypeInteger.ValueInteger) sum.getValue()).getRawValue(), is(3));
+
+        assertThat("non-constant inputs are not folded",
+                OperatorVariableFacade.foldConstants(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{c1, d2}) == null, is(true));
+        assertThat("failing evaluations are not folded",
+                OperatorVariableFacade.foldConstants(0, Operators.ARITHMETIC_DIVISION, new IVariable[]{c1, c0}) == null, is(true));
+    }
+
+    @Test
+    public void testSharedExpressions() throws EvaluationException {
+        PartNetwork network = new PartNetwork();
+        DummyVariableInteger a = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        DummyVariableInteger b = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        Variable<ValueTypeInteger.ValueInteger> c1 = new Variable<>(ValueTypeInteger.ValueInteger.of(1));
+        Variable<ValueTypeInteger.ValueInteger> c1Other = new Variable<>(ValueTypeInteger.ValueInteger.of(1));
+        Variable<ValueTypeInteger.ValueInteger> c0 = new Variable<>(ValueTypeInteger.ValueInteger.of(0));
+
+        IExpression<ValueTypeInteger.ValueInteger> sum = network.getSharedExpression(Operators.ARITHMETIC_ADDITION, new IVariable[]{a, c1});
+        assertThat("identical expressions are shared",
+                network.getSharedExpression(Operators.ARITHMETIC_ADDITION, new IVariable[]{a, c1Other}) == sum, is(true));
+        assertThat("expressions with other input variables are not shared",
+                network.getSharedExpression(Operators.ARITHMETIC_ADDITION, new IVariable[]{b, c1}) == sum, is(false));
+        assertThat("expressions with other operators are not shared",
+                network.getSharedExpression(Operators.ARITHMETIC_MULTIPLICATION, new IVariable[]{a, c1}) == sum, is(false));
+        assertThat("shared expressions are evaluated", sum.getValue().getRawValue(), is(11));
+
+        IExpression<ValueTypeInteger.ValueInteger> division = network.getSharedExpression(Operators.ARITHMETIC_DIVISION, new IVariable[]{a, c0});
+        try {
+            division.getValue();
+            fail("Division by zero did not fail.");
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        assertThat("errored expressions are replaced",
+                network.getSharedExpression(Operators.ARITHMETIC_DIVISION, new IVariable[]{a, c0}) == division, is(false));
+    }
+
+    private static class MutableVariableInteger extends VariableAdapter<ValueTypeInteger.ValueInteger> {
+
+        private int value;
+
+        public MutableVariableInteger(int value) {
+            this.value = value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+            invalidate();
+        }
+
+        @Override
+        public IValueType<ValueTypeInteger.ValueInteger> getType() {
+            return ValueTypes.INTEGER;
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger getValue() throws EvaluationException {
+            return ValueTypeInteger.ValueInteger.of(value);
+        }
+    }
+
 }
@@ -0,0 +1,130 @@
+package org.cyclops.integrateddynamics.core.item;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandler;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the facade cache of the variable facade handler registry.
+ * @author rubensworks
+ */
+public class TestVariableFacadeHandlerRegistry {
+
+    private static final IVariableFacadeHandler<ValueTypeVariableFacade> HANDLER_VALUE = new IVariableFacadeHandler<ValueTypeVariableFacade>() {
+        @Override
+        public String getTypeId() {
+            return "test_value";
+        }
+
+        @Override
+        public ValueTypeVariableFacade getVariableFacade(int id, NBTTagCompound tagCompound) {
+            return new ValueTypeVariableFacade<>(id, ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(tagCompound.getInteger("value")));
+        }
+
+        @Override
+        public void setVariableFacade(NBTTagCompound tagCompound, ValueTypeVariableFacade variableFacade) {
+
+        }
+    };
+
+    private static final IVariableFacadeHandler<VariableFacadeHandlerRegistry.DummyVariableFacade> HANDLER_OPERATOR = new IVariableFacadeHandler<VariableFacadeHandlerRegistry.DummyVariableFacade>() {
+        @Override
+        public String getTypeId() {
+            return "test_operator";
+        }
+
+        @Override
+        public VariableFacadeHandlerRegistry.DummyVariableFacade getVariableFacade(int id, NBTTagCompound tagCompound) {
+            return new VariableFacadeHandlerRegistry.DummyVariableFacade("test");
+        }
+
+        @Override
+        public void setVariableFacade(NBTTagCompound tagCompound, VariableFacadeHandlerRegistry.DummyVariableFacade variableFacade) {
+
+        }
+    };
+
+    private TestRegistry registry;
+
+    @Before
+    public void before() {
+        registry = new TestRegistry();
+        registry.registerHandler(HANDLER_VALUE);
+        registry.registerHandler(HANDLER_OPERATOR);
+    }
+
+    protected static NBTTagCompound createTag(String type, int id, int value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("_type", type);
+        tag.setInteger("_id", id);
+        tag.setInteger("value", value);
+        return tag;
+    }
+
+    @Test
+    public void testCacheable() {
+        IVariableFacade facade = registry.handle(createTag("test_value", 1, 10));
+        assertThat(facade, instanceOf(ValueTypeVariableFacade.class));
+        assertThat("the first lookup is a miss", registry.cache.getMisses(), is(1L));
+        assertThat(registry.cache.size(), is(1));
+
+        assertThat("equal tags reuse the facade", registry.handle(createTag("test_value", 1, 10)), sameInstance(facade));
+        assertThat("the second lookup is a hit", registry.cache.getHits(), is(1L));
+
+        assertThat("other tags are decoded", registry.handle(createTag("test_value", 1, 11)), not(sameInstance(facade)));
+        assertThat(registry.cache.getMisses(), is(2L));
+        assertThat(registry.cache.size(), is(2));
+    }
+
+    @Test
+    public void testCacheableTagModified() {
+        NBTTagCompound tag = createTag("test_value", 1, 10);
+        IVariableFacade facade = registry.handle(tag);
+        tag.setInteger("value", 11);
+        assertThat("modified tags are decoded again", registry.handle(tag), not(sameInstance(facade)));
+        assertThat("the original tag is still cached", registry.handle(createTag("test_value", 1, 10)), sameInstance(facade));
+    }
+
+    @Test
+    public void testUncacheable() {
+        NBTTagCompound tag = createTag("test_operator", 1, 10);
+        IVariableFacade facade = registry.handle(tag);
+        assertThat("uncacheable facades are decoded for every lookup", registry.handle(tag), not(sameInstance(facade)));
+        assertThat("uncacheable facades do not access the cache", registry.cache.getHits() + registry.cache.getMisses(), is(0L));
+        assertThat("uncacheable facades are not cached", registry.cache.size(), is(0));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThat(registry.handle((NBTTagCompound) null), sameInstance(VariableFacadeHandlerRegistry.DUMMY_FACADE));
+        assertThat(registry.handle(new NBTTagCompound()), sameInstance(VariableFacadeHandlerRegistry.DUMMY_FACADE));
+        assertThat(registry.handle(createTag("test_unknown", 1, 10)), sameInstance(VariableFacadeHandlerRegistry.DUMMY_FACADE));
+        assertThat("invalid tags do not access the cache", registry.cache.getHits() + registry.cache.getMisses(), is(0L));
+    }
+
+    private static class TestRegistry extends VariableFacadeHandlerRegistry {
+
+        private final FacadeCache cache = new FacadeCache(16);
+
+        @Override
+        protected FacadeCache getCache() {
+            return cache;
+        }
+
+        @Override
+        protected boolean isCacheable(IVariableFacadeHandler handler) {
+            return handler == HANDLER_VALUE;
+        }
+    }
+
+}
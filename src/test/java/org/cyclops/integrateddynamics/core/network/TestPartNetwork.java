@@ -0,0 +1,207 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerDefault;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.item.ValueTypeVariableFacade;
+import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the variable index and variable dependencies of part networks.
+ * @author rubensworks
+ */
+public class TestPartNetwork {
+
+    private PartNetwork network;
+
+    @Before
+    public void before() {
+        network = new PartNetwork();
+    }
+
+    /**
+     * ----------------------------------- RECORDINGS -----------------------------------
+     */
+
+    @Test
+    public void testRecordDependencies() {
+        network.getVariableFacade(0);
+
+        network.beginVariableDependencies();
+        network.hasVariableFacade(1);
+        network.getVariableFacade(2);
+        network.getVariableFacade(2);
+        assertThat("looked up ids are recorded", network.endVariableDependencies(), is(Sets.newHashSet(1, 2)));
+
+        network.beginVariableDependencies();
+        assertThat("lookups before a recording are not recorded", network.endVariableDependencies(), is(Collections.emptySet()));
+    }
+
+    @Test
+    public void testNestedRecordings() {
+        network.beginVariableDependencies();
+        network.getVariableFacade(1);
+
+        network.beginVariableDependencies();
+        network.getVariableFacade(2);
+        network.beginVariableDependencies();
+        network.getVariableFacade(3);
+        assertThat("the innermost recording has its own ids", network.endVariableDependencies(), is(Sets.newHashSet(3)));
+        assertThat("nested recordings include the ids of their nested recordings", network.endVariableDependencies(), is(Sets.newHashSet(2, 3)));
+
+        network.getVariableFacade(4);
+        assertThat("the outer recording includes all transitive ids", network.endVariableDependencies(), is(Sets.newHashSet(1, 2, 3, 4)));
+    }
+
+    /**
+     * ----------------------------------- REVERSE INDEX -----------------------------------
+     */
+
+    @Test
+    public void testReverseIndex() {
+        network.setVariableDependencies(10, Sets.newHashSet(1, 2));
+        network.setVariableDependencies(11, Sets.newHashSet(2, 3));
+
+        assertThat(network.hasVariableDependencies(10), is(true));
+        assertThat(network.hasVariableDependencies(12), is(false));
+        assertThat(network.getVariableDependents(Sets.newHashSet(1)), is(Sets.newHashSet(10)));
+        assertThat(network.getVariableDependents(Sets.newHashSet(2)), is(Sets.newHashSet(10, 11)));
+        assertThat(network.getVariableDependents(Sets.newHashSet(1, 3)), is(Sets.newHashSet(10, 11)));
+        assertThat(network.getVariableDependents(Sets.newHashSet(4)), is(Collections.emptySet()));
+
+        network.setVariableDependencies(10, Sets.newHashSet(4));
+        assertThat("replaced dependencies are removed", network.getVariableDependents(Sets.newHashSet(1)), is(Collections.emptySet()));
+        assertThat("replaced dependencies are removed", network.getVariableDependents(Sets.newHashSet(2)), is(Sets.newHashSet(11)));
+        assertThat("new dependencies are added", network.getVariableDependents(Sets.newHashSet(4)), is(Sets.newHashSet(10)));
+
+        network.setVariableDependencies(11, Collections.emptySet());
+        assertThat("parts without dependencies have known dependencies", network.hasVariableDependencies(11), is(true));
+        assertThat(network.getVariableDependents(Sets.newHashSet(2, 3)), is(Collections.emptySet()));
+    }
+
+    @Test
+    public void testRemovePart() {
+        network.setVariableDependencies(10, Sets.newHashSet(1, 2));
+        network.setVariableDependencies(11, Sets.newHashSet(2));
+
+        network.removePart(10);
+        assertThat("removed parts have no dependencies", network.hasVariableDependencies(10), is(false));
+        assertThat("removed parts are not dependents", network.getVariableDependents(Sets.newHashSet(1)), is(Collections.emptySet()));
+        assertThat("other parts are kept", network.getVariableDependents(Sets.newHashSet(2)), is(Sets.newHashSet(11)));
+    }
+
+    /**
+     * ----------------------------------- EVENTS -----------------------------------
+     */
+
+    @Test
+    public void testPartAffected() {
+        network.setVariableDependencies(10, Sets.newHashSet(1));
+        network.setVariableDependencies(11, Sets.newHashSet(2));
+
+        VariableContentsUpdatedEvent event = new VariableContentsUpdatedEvent(null, Sets.newHashSet(1));
+        assertThat("parts that depend on an updated variable are affected", event.isPartAffected(network, 10), is(true));
+        assertThat("other parts are not affected", event.isPartAffected(network, 11), is(false));
+        assertThat("parts with unknown dependencies are affected", event.isPartAffected(network, 12), is(true));
+        assertThat("all parts are affected without a part network", event.isPartAffected(null, 11), is(true));
+
+        VariableContentsUpdatedEvent eventUnknown = new VariableContentsUpdatedEvent(null);
+        assertThat("all parts are affected by unknown variables", eventUnknown.isPartAffected(network, 11), is(true));
+    }
+
+    /**
+     * ----------------------------------- VARIABLE INDEX -----------------------------------
+     */
+
+    protected static IVariableFacade createFacade(int id, int value) {
+        return new ValueTypeVariableFacade<>(id, ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(value));
+    }
+
+    protected VariableContainerDefault createIndexedContainer(IVariableFacade... variableFacades) {
+        VariableContainerDefault variableContainer = new VariableContainerDefault();
+        for (IVariableFacade variableFacade : variableFacades) {
+            variableContainer.getVariableCache().put(variableFacade.getId(), variableFacade);
+        }
+        // Make sure the (empty) index is built, so that it is updated incrementally afterwards.
+        network.getVariableFacade(0);
+        network.indexVariableContainer(variableContainer);
+        return variableContainer;
+    }
+
+    @Test
+    public void testVariableIndexAddRemove() {
+        IVariableFacade facade1 = createFacade(1, 10);
+        IVariableFacade facade2 = createFacade(2, 20);
+        VariableContainerDefault container = createIndexedContainer(facade1);
+        assertThat(network.getVariableFacade(1), sameInstance(facade1));
+        assertThat(network.hasVariableFacade(2), is(false));
+
+        container.getVariableCache().put(2, facade2);
+        assertThat("the index is only updated when notified", network.hasVariableFacade(2), is(false));
+        network.onVariableContainerUpdated(container);
+        assertThat("added variables are indexed", network.getVariableFacade(2), sameInstance(facade2));
+
+        container.getVariableCache().remove(1);
+        network.onVariableContainerUpdated(container);
+        assertThat("removed variables are unindexed", network.hasVariableFacade(1), is(false));
+        assertThat(network.getVariableFacade(1), nullValue());
+        assertThat("other variables are kept", network.getVariableFacade(2), sameInstance(facade2));
+    }
+
+    @Test
+    public void testVariableIndexFallback() {
+        IVariableFacade facadeA = createFacade(1, 10);
+        IVariableFacade facadeB = createFacade(1, 11);
+        VariableContainerDefault containerA = createIndexedContainer(facadeA);
+        VariableContainerDefault containerB = createIndexedContainer(facadeB);
+        assertThat("the first container wins", network.getVariableFacade(1), sameInstance(facadeA));
+
+        containerA.getVariableCache().clear();
+        network.onVariableContainerUpdated(containerA);
+        assertThat("removed variables fall back to other containers", network.getVariableFacade(1), sameInstance(facadeB));
+
+        containerA.getVariableCache().put(1, facadeA);
+        network.onVariableContainerUpdated(containerA);
+        assertThat("re-added variables do not win from the fallback", network.getVariableFacade(1), sameInstance(facadeB));
+
+        containerB.getVariableCache().clear();
+        network.onVariableContainerUpdated(containerB);
+        assertThat(network.getVariableFacade(1), sameInstance(facadeA));
+
+        containerA.getVariableCache().clear();
+        network.onVariableContainerUpdated(containerA);
+        assertThat("variables without containers are removed", network.hasVariableFacade(1), is(false));
+    }
+
+    @Test
+    public void testVariableIndexRedecoded() {
+        VariableContainerDefault containerA = createIndexedContainer(createFacade(1, 10));
+        VariableContainerDefault containerB = createIndexedContainer(createFacade(1, 11));
+
+        // Refreshing a container decodes its facades again
+        IVariableFacade facadeA = createFacade(1, 10);
+        containerA.getVariableCache().put(1, facadeA);
+        network.onVariableContainerUpdated(containerA);
+        assertThat("redecoded variables keep their container", network.getVariableFacade(1), sameInstance(facadeA));
+
+        containerB.getVariableCache().put(1, createFacade(1, 11));
+        network.onVariableContainerUpdated(containerB);
+        assertThat("redecoded duplicate variables do not win", network.getVariableFacade(1), sameInstance(facadeA));
+
+        containerA.getVariableCache().clear();
+        network.onVariableContainerUpdated(containerA);
+        assertThat("fallbacks use the redecoded variable", network.getVariableFacade(1), sameInstance(containerB.getVariableCache().get(1)));
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.cyclops.integrateddynamics.part.aspect.write;
+
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.part.aspect.property.AspectProperties;
+import org.cyclops.integrateddynamics.core.part.write.PartStateWriterBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the skipping of unchanged writer values.
+ * @author rubensworks
+ */
+public class TestAspectWriteBase {
+
+    private PartStateWriterBase<?> state;
+
+    @Before
+    public void before() {
+        state = new PartStateWriterBase<>(1);
+    }
+
+    @Test
+    public void testSkipUnchanged() {
+        assertThat("the first value is written", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(true));
+        assertThat("an equal value is skipped", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(false));
+        assertThat("an equal value is skipped again", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(false));
+    }
+
+    @Test
+    public void testWriteChanged() {
+        AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1));
+        assertThat("a changed value is written", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(2)), is(true));
+        assertThat("the changed value is skipped afterwards", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(2)), is(false));
+        assertThat("the previous value is written again", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(true));
+    }
+
+    @Test
+    public void testResetOnActivate() {
+        AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1));
+        state.setDeactivated(false);
+        assertThat("an unchanged value is written after activation", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(true));
+    }
+
+    @Test
+    public void testResetOnDeactivate() {
+        AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1));
+        state.setDeactivated(true);
+        assertThat("an unchanged value is written after deactivation", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(true));
+    }
+
+    @Test
+    public void testResetOnPropertiesChange() {
+        AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1));
+        state.setAspectProperties(null, new AspectProperties());
+        assertThat("an unchanged value is written after a property change", AspectWriteBase.checkAndSetLastWrittenValue(state, ValueTypeInteger.ValueInteger.of(1)), is(true));
+    }
+
+}